@@ -0,0 +1,199 @@
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * <p>
+ * Minimal benchmark harness: every benchmark is run for a few warmup iterations, so that the JIT
+ * compiles it, followed by the measured iterations. Each iteration calls the operation for a fixed
+ * amount of time (at least once) and reports:
+ * </p>
+ * <ul>
+ * <li>Throughput, in operations per second (mean and min-max of the iterations).</li>
+ * <li>Allocation rate, in MB/s, and normalized allocation, in bytes per operation, measured with
+ * the allocation counter of the current thread (the allocations of other threads, e.g. a ForkJoinPool,
+ * are not counted).</li>
+ * <li>Garbage collections during the measured iterations.</li>
+ * </ul>
+ * 
+ * @author Lucas De Morais Cabrales
+ * @since 2026-10-17
+ */
+public class Benchmark {
+	
+	/**
+	 * Benchmarked code.
+	 */
+	public interface Operation {
+		
+		/**
+		 * Runs the benchmarked code once.
+		 * 
+		 * @return any result of the code, consumed so that the JIT can't remove it.
+		 * @throws Exception if the code fails, the benchmark is aborted.
+		 */
+		Object run() throws Exception;
+	}
+	
+	/**
+	 * Amount of warmup iterations.
+	 */
+	private int warmups;
+	/**
+	 * Amount of measured iterations.
+	 */
+	private int iterations;
+	/**
+	 * Duration of every iteration, in nanoseconds.
+	 */
+	private long iterationNanos;
+	/**
+	 * Only the benchmarks whose name contains this text are run, empty to run all of them.
+	 */
+	private String filter = "";
+	/**
+	 * Allocation counter of the threads, null if the JVM doesn't provide it.
+	 */
+	private com.sun.management.ThreadMXBean threads;
+	/**
+	 * Results of the operations, consumed so that the JIT can't remove them.
+	 */
+	private int sink;
+	
+	/**
+	 * Constructor of the class.
+	 * 
+	 * @param warmups Amount of warmup iterations.
+	 * @param iterations Amount of measured iterations.
+	 * @param iterationMillis Duration of every iteration, in milliseconds.
+	 */
+	public Benchmark(int warmups, int iterations, long iterationMillis) {
+		this.warmups = warmups;
+		this.iterations = iterations;
+		this.iterationNanos = iterationMillis * 1000000L;
+		
+		java.lang.management.ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+		if (bean instanceof com.sun.management.ThreadMXBean
+				&& ((com.sun.management.ThreadMXBean) bean).isThreadAllocatedMemorySupported()) {
+			threads = (com.sun.management.ThreadMXBean) bean;
+			threads.setThreadAllocatedMemoryEnabled(true);
+		}
+	}
+	
+	/**
+	 * Sets the text that the name of a benchmark must contain to be run.
+	 * 
+	 * @param filter text of the name, empty to run every benchmark.
+	 */
+	public void setFilter(String filter) {
+		this.filter = filter;
+	}
+	
+	/**
+	 * Whether a benchmark is run with the current filter.
+	 * 
+	 * @param name name of the benchmark.
+	 * @return true if the name contains the filter.
+	 */
+	public boolean isRun(String name) {
+		return name.contains(filter);
+	}
+	
+	/**
+	 * Prints the header of the results table.
+	 */
+	public void printHeader() {
+		System.out.println(String.format("%-48s %14s %21s %10s %14s %6s",
+				"Benchmark", "ops/s", "(min - max)", "MB/s", "alloc B/op", "gc"));
+	}
+	
+	/**
+	 * Runs a benchmark and prints its results, unless it is filtered out.
+	 * 
+	 * @param name name of the benchmark.
+	 * @param operation benchmarked code.
+	 * @throws Exception if the benchmarked code fails.
+	 */
+	public void run(String name, Operation operation) throws Exception {
+		if (!isRun(name))
+			return;
+		
+		for (int i = 0; i < warmups; i++)
+			measure(operation);
+		
+		List<long[]> results = new ArrayList<>();
+		long gcCount = getGcCount();
+		
+		for (int i = 0; i < iterations; i++)
+			results.add(measure(operation));
+		
+		gcCount = getGcCount() - gcCount;
+		
+		long ops = 0, nanos = 0, bytes = 0;
+		double min = Double.MAX_VALUE, max = 0;
+		for (long[] result : results) {
+			double throughput = result[0] * 1e9 / result[1];
+			min = Math.min(min, throughput);
+			max = Math.max(max, throughput);
+			
+			ops += result[0];
+			nanos += result[1];
+			bytes += result[2];
+		}
+		
+		double throughput = ops * 1e9 / nanos;
+		String allocRate = threads == null ? "n/a" : String.format("%.1f", bytes * 1e9 / nanos / (1024 * 1024));
+		String allocNorm = threads == null ? "n/a" : String.valueOf(bytes / ops);
+		
+		System.out.println(String.format("%-48s %14.3f %21s %10s %14s %6d", name, throughput,
+				String.format("(%.3f - %.3f)", min, max), allocRate, allocNorm, gcCount));
+	}
+	
+	/**
+	 * Runs a single iteration.
+	 * 
+	 * @param operation benchmarked code.
+	 * @return amount of operations, elapsed nanoseconds and allocated bytes.
+	 * @throws Exception if the benchmarked code fails.
+	 */
+	private long[] measure(Operation operation) throws Exception {
+		long thread = Thread.currentThread().getId();
+		long allocated = threads == null ? 0 : threads.getThreadAllocatedBytes(thread);
+		long start = System.nanoTime();
+		long elapsed;
+		long ops = 0;
+		
+		do {
+			Object result = operation.run();
+			sink += result == null ? 0 : System.identityHashCode(result);
+			ops++;
+			elapsed = System.nanoTime() - start;
+		} while (elapsed < iterationNanos);
+		
+		allocated = threads == null ? 0 : threads.getThreadAllocatedBytes(thread) - allocated;
+		return new long[] { ops, elapsed, allocated };
+	}
+	
+	/**
+	 * Retrieves the amount of garbage collections since the JVM started.
+	 * 
+	 * @return amount of collections of every collector.
+	 */
+	private long getGcCount() {
+		long count = 0;
+		for (GarbageCollectorMXBean gc : ManagementFactory.getGarbageCollectorMXBeans())
+			count += Math.max(0, gc.getCollectionCount());
+		
+		return count;
+	}
+	
+	/**
+	 * Retrieves the consumed results, only to keep them alive.
+	 * 
+	 * @return hash of the results.
+	 */
+	public int getSink() {
+		return sink;
+	}
+}
@@ -0,0 +1,36 @@
+/**
+ * Stand-in of the Debug class of the app, only used to run the generated classes outside of Android.
+ * The errors are counted and the first one is printed, so that a failing benchmark is noticed.
+ * 
+ * @author Lucas De Morais Cabrales
+ * @since 2026-10-17
+ */
+public class Debug {
+	
+	/**
+	 * Amount of logged errors.
+	 */
+	private static int errors;
+	
+	/**
+	 * Logs an error.
+	 * 
+	 * @param tag tag of the class which failed.
+	 * @param e error.
+	 */
+	public static synchronized void error(String tag, Throwable e) {
+		if (errors++ == 0) {
+			System.err.println(tag + ": " + e);
+			e.printStackTrace();
+		}
+	}
+	
+	/**
+	 * Retrieves the amount of logged errors.
+	 * 
+	 * @return amount of errors.
+	 */
+	public static synchronized int getErrors() {
+		return errors;
+	}
+}
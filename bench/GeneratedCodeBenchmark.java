@@ -0,0 +1,656 @@
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInput;
+import java.io.DataInputStream;
+import java.io.DataOutput;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.StringReader;
+import java.lang.reflect.Field;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import javax.tools.JavaCompiler;
+import javax.tools.ToolProvider;
+
+import org.json.JSONObject;
+
+import android.database.sqlite.SQLiteDatabase;
+import android.util.JsonReader;
+
+/**
+ * <p>
+ * Benchmarks of the generated classes themselves, so that the generation options can be compared by
+ * what the emitted code costs at runtime. For every mode, the classes of a synthetic dataset are
+ * generated, compiled with the system Java compiler against the stand-ins of org.json, android.*,
+ * Debug and StorageManager of the bench folder, and loaded in their own class loader. Every mode is 
+ * validated before being measured: the records must come back unchanged from fromJson(JsonReader), the 
+ * writeTo()/readFrom() round trip, addObj() followed by getObjById() and getList(), and addAll() followed 
+ * by getList(), otherwise the benchmark fails. Then:
+ * </p>
+ * <ul>
+ * <li>fromJson(JSONObject): parsing of a record into a JSONObject and its conversion, per record.</li>
+ * <li>fromJson(JsonReader): streaming conversion of a record, only with the jsonreader option.</li>
+ * <li>readFrom(DataInput): reading of a record written by writeTo(), only with the binary option.</li>
+ * <li>addObj: deleteTable() followed by an addObj() of every record, per dataset.</li>
+ * <li>addAll: deleteTable() followed by an addAll() of every record, per dataset.</li>
+ * <li>getList: getList() of the whole table, per dataset.</li>
+ * <li>getColumns: getColumns() of the whole table, per dataset, only with the columnar option.</li>
+ * <li>getObjById: getObjById() of a record, per record, only with the master option and an id.</li>
+ * </ul>
+ * <p>
+ * The database benchmarks run on a file-based SQLite database through JDBC (the generated SQL relies on
+ * rowid and COLLATE NOCASE, which H2 doesn't support), so the sqlite-jdbc driver must be on the
+ * classpath. Without it, only the fromJson benchmarks are run. The arguments are:
+ * </p>
+ * <ul>
+ * <li>--records 10000: amount of records of the dataset.</li>
+ * <li>--fields 20: amount of fields of every record, besides Id, Description and the nested Address and Lines.</li>
+ * <li>--modes "a|b": generation options of every mode, separated by |. E.g.: database master id=Id filter=Description</li>
+ * <li>--jdbc url: JDBC URL of the database, a temporary SQLite file by default.</li>
+ * <li>--warmup n / --iterations n / --time ms / --filter text: see {@link GeneratorBenchmark}.</li>
+ * </ul>
+ * <p>
+ * Run it with: <code>javac -d bin $(find src bench -name '*.java') &amp;&amp;
+ * java -cp bin:sqlite-jdbc.jar GeneratedCodeBenchmark</code>
+ * </p>
+ * 
+ * @author Lucas De Morais Cabrales
+ * @since 2026-10-17
+ */
+public class GeneratedCodeBenchmark {
+	
+	/**
+	 * Name of the generated root class.
+	 */
+	private static final String CLASS_NAME = "Record";
+	/**
+	 * Generation options of the default modes.
+	 */
+	private static final String DEFAULT_MODES = "database master id=Id filter=Description"
+			+ "|database master id=Id filter=Description primitives"
+			+ "|database master id=Id filter=Description jsonreader binary"
+			+ "|database master id=Id filter=Description cache=1000"
+			+ "|database master id=Id filter=Description enums"
+			+ "|database master id=Id filter=Description primitives enums columnar";
+	
+	/**
+	 * Runs every benchmark with the parameters of the arguments.
+	 * 
+	 * @param args see the class documentation.
+	 * @throws Exception if a benchmark fails.
+	 */
+	public static void main(String[] args) throws Exception {
+		int records = 10000, fields = 20;
+		String modes = DEFAULT_MODES;
+		String jdbcUrl = null;
+		int warmup = 3, iterations = 5;
+		long time = 1000;
+		String filter = "";
+		
+		for (int i = 0; i < args.length - 1; i += 2) {
+			String value = args[i + 1];
+			switch (args[i]) {
+				case "--records":
+					records = Integer.parseInt(value);
+					break;
+				case "--fields":
+					fields = Integer.parseInt(value);
+					break;
+				case "--modes":
+					modes = value;
+					break;
+				case "--jdbc":
+					jdbcUrl = value;
+					break;
+				case "--warmup":
+					warmup = Integer.parseInt(value);
+					break;
+				case "--iterations":
+					iterations = Integer.parseInt(value);
+					break;
+				case "--time":
+					time = Long.parseLong(value);
+					break;
+				case "--filter":
+					filter = value;
+					break;
+				default:
+					throw new IllegalArgumentException("Unknown argument: " + args[i]);
+			}
+		}
+		
+		JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+		if (compiler == null)
+			throw new IllegalStateException("A JDK is required to compile the generated classes");
+		
+		String[] lines = getRecords(records, fields);
+		StringBuilder dataset = new StringBuilder();
+		for (String line : lines)
+			dataset.append(line).append('\n');
+		
+		Schema schema = SchemaInference.infer(new StringReader(dataset.toString()));
+		
+		Benchmark benchmark = new Benchmark(warmup, iterations, time);
+		benchmark.setFilter(filter);
+		
+		String[] modeOptions = modes.split("\\|");
+		for (int i = 0; i < modeOptions.length; i++)
+			System.out.println("m" + (i + 1) + ": " + (modeOptions[i].trim().isEmpty() ? "(no options)" : modeOptions[i].trim()));
+		
+		System.out.println("records=" + records + " fields=" + (fields + 4));
+		benchmark.printHeader();
+		
+		for (int i = 0; i < modeOptions.length; i++) {
+			Path folder = Files.createTempDirectory("generated");
+			try {
+				Class<?> model = compile(compiler, schema, modeOptions[i], folder);
+				runBenchmarks(benchmark, "m" + (i + 1), model, lines, jdbcUrl);
+			} finally {
+				delete(folder.toFile());
+			}
+		}
+		
+		if (Debug.getErrors() > 0)
+			System.err.println(Debug.getErrors() + " errors were logged by the generated classes");
+	}
+	
+	/**
+	 * Generates and compiles the classes of a mode, and loads them in their own class loader.
+	 * 
+	 * @param compiler system Java compiler.
+	 * @param schema schema of the dataset.
+	 * @param options generation options of the mode, separated by spaces.
+	 * @param folder folder of the sources and the compiled classes.
+	 * @return generated root class.
+	 * @throws Exception if the classes can not be compiled.
+	 */
+	private static Class<?> compile(JavaCompiler compiler, Schema schema, String options, Path folder) throws Exception {
+		GeneratorOptions generatorOptions = new GeneratorOptions(CLASS_NAME);
+		for (String option : options.trim().split("\\s+")) {
+			if (!option.isEmpty())
+				generatorOptions.setOption(option);
+		}
+		
+		List<String> arguments = new ArrayList<>(Arrays.asList("-nowarn", "-d", folder.toString(),
+				"-classpath", System.getProperty("java.class.path")));
+		
+		for (Map.Entry<String, String> entry : new ModelGenerator(generatorOptions).generateAll(schema).entrySet()) {
+			Path source = folder.resolve(entry.getKey() + ".java");
+			Files.write(source, entry.getValue().getBytes(StandardCharsets.UTF_8));
+			arguments.add(source.toString());
+		}
+		
+		if (compiler.run(null, null, null, arguments.toArray(new String[arguments.size()])) != 0)
+			throw new IllegalStateException("The generated classes of \"" + options + "\" don't compile");
+		
+		URLClassLoader loader = new URLClassLoader(new URL[] { folder.toUri().toURL() },
+				GeneratedCodeBenchmark.class.getClassLoader());
+		return loader.loadClass(CLASS_NAME);
+	}
+	
+	/**
+	 * Runs the benchmarks of the classes of a mode.
+	 * 
+	 * @param benchmark harness running the benchmarks.
+	 * @param mode name of the mode.
+	 * @param model generated root class.
+	 * @param lines records of the dataset, one JSON object per line.
+	 * @param jdbcUrl JDBC URL of the database, null for a temporary SQLite file.
+	 * @throws Exception if a benchmark fails.
+	 */
+	private static void runBenchmarks(Benchmark benchmark, String mode, Class<?> model, String[] lines,
+			String jdbcUrl) throws Exception {
+		Method fromJsonObject = model.getMethod("fromJson", JSONObject.class);
+		int[] next = { 0 };
+		
+		List<Object> objects = new ArrayList<>(lines.length);
+		for (String line : lines)
+			objects.add(invoke(fromJsonObject, new JSONObject(line)));
+		
+		validate(mode, model, lines, objects);
+		
+		benchmark.run("fromJson(JSONObject) " + mode,
+				() -> invoke(fromJsonObject, new JSONObject(lines[next[0]++ % lines.length])));
+		
+		Method fromJsonReader = getMethod(model, "fromJson", JsonReader.class);
+		if (fromJsonReader != null) {
+			benchmark.run("fromJson(JsonReader) " + mode,
+					() -> invoke(fromJsonReader, new JsonReader(new StringReader(lines[next[0]++ % lines.length]))));
+		}
+		
+		Method readFrom = getMethod(model, "readFrom", DataInput.class);
+		if (readFrom != null) {
+			byte[][] records = getBinaryRecords(model, lines);
+			benchmark.run("readFrom(DataInput) " + mode,
+					() -> invoke(readFrom, new DataInputStream(new ByteArrayInputStream(records[next[0]++ % records.length]))));
+		}
+		
+		Method addObj = getMethod(model, "addObj", model);
+		if (addObj == null)
+			return;
+		
+		Path file = null;
+		if (jdbcUrl == null) {
+			file = Files.createTempFile("generated", ".db");
+			jdbcUrl = "jdbc:sqlite:" + file;
+		}
+		
+		Connection connection;
+		try {
+			connection = DriverManager.getConnection(jdbcUrl);
+		} catch (SQLException e) {
+			System.out.println(mode + ": database benchmarks skipped, no JDBC driver for " + jdbcUrl + " (" + e.getMessage() + ")");
+			if (file != null)
+				Files.deleteIfExists(file);
+			
+			return;
+		}
+		
+		SQLiteDatabase db = new SQLiteDatabase(connection);
+		StorageManager.setDb(db);
+		
+		try {
+			createTables(db, model);
+			validateDatabase(mode, model, objects);
+			runDatabaseBenchmarks(benchmark, mode, model, objects);
+		} finally {
+			StorageManager.setDb(null);
+			db.close();
+			
+			if (file != null)
+				Files.deleteIfExists(file);
+		}
+	}
+	
+	/**
+	 * Runs the database benchmarks of the classes of a mode.
+	 * 
+	 * @param benchmark harness running the benchmarks.
+	 * @param mode name of the mode.
+	 * @param model generated root class.
+	 * @param objects records of the dataset, converted by fromJson(JSONObject).
+	 * @throws Exception if a benchmark fails.
+	 */
+	private static void runDatabaseBenchmarks(Benchmark benchmark, String mode, Class<?> model, List<Object> objects)
+			throws Exception {
+		Method addObj = model.getMethod("addObj", model);
+		Method addAll = model.getMethod("addAll", List.class);
+		Method getList = model.getMethod("getList");
+		Method deleteTable = model.getMethod("deleteTable");
+		Method getObjById = getMethod(model, "getObjById", String.class);
+		Method getColumns = getMethod(model, "getColumns");
+		int count = objects.size();
+		
+		benchmark.run("addObj x" + count + " " + mode, () -> {
+			invoke(deleteTable);
+			for (Object obj : objects)
+				invoke(addObj, obj);
+			
+			return objects;
+		});
+		
+		benchmark.run("addAll x" + count + " " + mode, () -> {
+			invoke(deleteTable);
+			return invoke(addAll, objects);
+		});
+		
+		//the read benchmarks need the whole dataset, whichever insertion was filtered out.
+		invoke(deleteTable);
+		invoke(addAll, objects);
+		
+		benchmark.run("getList x" + count + " " + mode, () -> invoke(getList));
+		
+		if (getColumns != null)
+			benchmark.run("getColumns x" + count + " " + mode, () -> invoke(getColumns));
+		
+		if (getObjById != null) {
+			int[] next = { 0 };
+			benchmark.run("getObjById " + mode, () -> invoke(getObjById, "id-" + (next[0]++ % count)));
+		}
+	}
+	
+	/**
+	 * Checks that the records come back unchanged from the fromJson(JsonReader) conversion and the 
+	 * writeTo()/readFrom() round trip, when the mode generates them.
+	 * 
+	 * @param mode name of the mode.
+	 * @param model generated root class.
+	 * @param lines records of the dataset, one JSON object per line.
+	 * @param objects records of the dataset, converted by fromJson(JSONObject).
+	 * @throws Exception if a record doesn't match.
+	 */
+	private static void validate(String mode, Class<?> model, String[] lines, List<Object> objects) throws Exception {
+		Method fromJsonReader = getMethod(model, "fromJson", JsonReader.class);
+		if (fromJsonReader != null) {
+			for (int i = 0; i < lines.length; i++) {
+				check(mode, "fromJson(JsonReader)", objects.get(i),
+						invoke(fromJsonReader, new JsonReader(new StringReader(lines[i]))), false);
+			}
+		}
+		
+		Method readFrom = getMethod(model, "readFrom", DataInput.class);
+		if (readFrom != null) {
+			byte[][] records = getBinaryRecords(model, lines);
+			for (int i = 0; i < records.length; i++) {
+				check(mode, "writeTo()/readFrom()", objects.get(i),
+						invoke(readFrom, new DataInputStream(new ByteArrayInputStream(records[i]))), false);
+			}
+		}
+	}
+	
+	/**
+	 * Checks that the records come back unchanged from addObj() followed by getObjById() and getList(), 
+	 * and from addAll() followed by getList().
+	 * 
+	 * @param mode name of the mode.
+	 * @param model generated root class.
+	 * @param objects records of the dataset, converted by fromJson(JSONObject).
+	 * @throws Exception if a record doesn't match.
+	 */
+	private static void validateDatabase(String mode, Class<?> model, List<Object> objects) throws Exception {
+		Method addObj = model.getMethod("addObj", model);
+		Method addAll = model.getMethod("addAll", List.class);
+		Method getList = model.getMethod("getList");
+		Method deleteTable = model.getMethod("deleteTable");
+		Method getObjById = getMethod(model, "getObjById", String.class);
+		Field id = getField(model, "id");
+		
+		invoke(deleteTable);
+		for (Object obj : objects)
+			invoke(addObj, obj);
+		
+		if (getObjById != null && id != null) {
+			for (Object obj : objects)
+				check(mode, "addObj()/getObjById()", obj, invoke(getObjById, String.valueOf(id.get(obj))), true);
+		}
+		
+		checkList(mode, "addObj()/getList()", objects, invoke(getList));
+		
+		invoke(deleteTable);
+		invoke(addAll, objects);
+		checkList(mode, "addAll()/getList()", objects, invoke(getList));
+	}
+	
+	/**
+	 * Checks that a list read from the database holds the records, in the same order.
+	 * 
+	 * @param mode name of the mode.
+	 * @param operation operations that returned the list.
+	 * @param expected records of the dataset.
+	 * @param actual list read from the database.
+	 * @throws Exception if a record doesn't match.
+	 */
+	private static void checkList(String mode, String operation, List<Object> expected, Object actual) throws Exception {
+		List<?> list = (List<?>) actual;
+		if (list.size() != expected.size())
+			throw new IllegalStateException(mode + ": " + operation + " returned " + list.size() + " of " + expected.size() + " records");
+		
+		for (int i = 0; i < list.size(); i++)
+			check(mode, operation, expected.get(i), list.get(i), true);
+	}
+	
+	/**
+	 * Checks that a record matches the one it was converted from.
+	 * 
+	 * @param mode name of the mode.
+	 * @param operation operations that returned the record.
+	 * @param expected record of the dataset.
+	 * @param actual converted record.
+	 * @param stored true if the record was read from the database, which doesn't store arrays of plain values.
+	 * @throws IllegalAccessException if a field can not be read.
+	 */
+	private static void check(String mode, String operation, Object expected, Object actual, boolean stored)
+			throws IllegalAccessException {
+		String difference = compare(expected, actual, "record", stored);
+		if (difference != null)
+			throw new IllegalStateException(mode + ": " + operation + " doesn't return the same record, " + difference + " differs");
+	}
+	
+	/**
+	 * Compares two values, the generated classes field by field (including the private ones, like the 
+	 * presence flags of the primitives option) and the lists element by element.
+	 * 
+	 * @param expected expected value.
+	 * @param actual actual value.
+	 * @param path path of the value, used in the result.
+	 * @param stored true if the value was read from the database, which doesn't store arrays of plain values.
+	 * @return path of the first difference, null if both values are equal.
+	 * @throws IllegalAccessException if a field can not be read.
+	 */
+	private static String compare(Object expected, Object actual, String path, boolean stored) throws IllegalAccessException {
+		if (expected == null || actual == null)
+			return expected == actual ? null : path;
+		
+		if (expected instanceof List) {
+			List<?> expectedList = (List<?>) expected, actualList = (List<?>) actual;
+			if (expectedList.size() != actualList.size())
+				return path + ".size()";
+			
+			for (int i = 0; i < expectedList.size(); i++) {
+				String difference = compare(expectedList.get(i), actualList.get(i), path + "[" + i + "]", stored);
+				if (difference != null)
+					return difference;
+			}
+			
+			return null;
+		}
+		
+		if (!isGenerated(expected.getClass()))
+			return expected.equals(actual) ? null : path;
+		
+		for (Field field : expected.getClass().getDeclaredFields()) {
+			if (Modifier.isStatic(field.getModifiers()) || (stored && isValueList(field)))
+				continue;
+			
+			field.setAccessible(true);
+			String difference = compare(field.get(expected), field.get(actual), path + "." + field.getName(), stored);
+			if (difference != null)
+				return difference;
+		}
+		
+		return null;
+	}
+	
+	/**
+	 * Checks if a class is one of the generated classes, other than the enums.
+	 * 
+	 * @param type class.
+	 * @return true if the class was loaded from the generated classes of a mode.
+	 */
+	private static boolean isGenerated(Class<?> type) {
+		return type.getClassLoader() != GeneratedCodeBenchmark.class.getClassLoader() && type.getClassLoader() instanceof URLClassLoader
+				&& !type.isEnum();
+	}
+	
+	/**
+	 * Checks if a field is an array of plain values, which isn't stored in the database.
+	 * 
+	 * @param field field of a generated class.
+	 * @return true if the field is a list whose elements aren't generated classes.
+	 */
+	private static boolean isValueList(Field field) {
+		if (!(field.getGenericType() instanceof ParameterizedType) || !List.class.isAssignableFrom(field.getType()))
+			return false;
+		
+		Type element = ((ParameterizedType) field.getGenericType()).getActualTypeArguments()[0];
+		return !(element instanceof Class) || !isGenerated((Class<?>) element);
+	}
+	
+	/**
+	 * Converts every record into the binary form written by writeTo().
+	 * 
+	 * @param model generated root class.
+	 * @param lines records of the dataset, one JSON object per line.
+	 * @return binary form of every record.
+	 * @throws Exception if a record can not be converted.
+	 */
+	private static byte[][] getBinaryRecords(Class<?> model, String[] lines) throws Exception {
+		Method fromJson = model.getMethod("fromJson", JSONObject.class);
+		Method writeTo = model.getMethod("writeTo", DataOutput.class);
+		byte[][] records = new byte[lines.length][];
+		
+		for (int i = 0; i < lines.length; i++) {
+			ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+			writeTo.invoke(invoke(fromJson, new JSONObject(lines[i])), new DataOutputStream(bytes));
+			records[i] = bytes.toByteArray();
+		}
+		
+		return records;
+	}
+	
+	/**
+	 * Creates the tables and indexes of the root class and its child classes.
+	 * 
+	 * @param db database of the tables.
+	 * @param model generated root class.
+	 * @throws Exception if a table can not be created.
+	 */
+	private static void createTables(SQLiteDatabase db, Class<?> model) throws Exception {
+		Map<String, Class<?>> classes = new LinkedHashMap<>();
+		classes.put(model.getName(), model);
+		
+		//the child classes are named after their parent, e.g. RecordAddress.
+		for (File file : new File(model.getProtectionDomain().getCodeSource().getLocation().toURI()).listFiles()) {
+			String name = file.getName().replace(".class", "");
+			if (name.startsWith(CLASS_NAME) && file.getName().endsWith(".class") && name.indexOf('$') < 0)
+				classes.putIfAbsent(name, model.getClassLoader().loadClass(name));
+		}
+		
+		for (Class<?> table : classes.values()) {
+			db.execSQL("drop table if exists " + table.getField("TABLE_NAME").get(null));
+			db.execSQL((String) table.getField("TABLE").get(null));
+			
+			Field indexes = getField(table, "INDEXES");
+			if (indexes != null) {
+				for (String index : (String[]) indexes.get(null))
+					db.execSQL(index);
+			}
+		}
+	}
+	
+	/**
+	 * Retrieves a public method.
+	 * 
+	 * @param type class of the method.
+	 * @param name name of the method.
+	 * @param parameterTypes types of the parameters.
+	 * @return method, null if it wasn't generated with the options of the mode.
+	 */
+	private static Method getMethod(Class<?> type, String name, Class<?>... parameterTypes) {
+		try {
+			return type.getMethod(name, parameterTypes);
+		} catch (NoSuchMethodException e) {
+			return null;
+		}
+	}
+	
+	/**
+	 * Retrieves a public field.
+	 * 
+	 * @param type class of the field.
+	 * @param name name of the field.
+	 * @return field, null if it wasn't generated with the options of the mode.
+	 */
+	private static Field getField(Class<?> type, String name) {
+		try {
+			return type.getField(name);
+		} catch (NoSuchFieldException e) {
+			return null;
+		}
+	}
+	
+	/**
+	 * Calls a static method, unwrapping the exceptions thrown by it.
+	 * 
+	 * @param method static method.
+	 * @param args arguments of the method.
+	 * @return result of the method.
+	 * @throws Exception if the method fails.
+	 */
+	private static Object invoke(Method method, Object... args) throws Exception {
+		try {
+			return method.invoke(null, args);
+		} catch (InvocationTargetException e) {
+			throw e.getCause() instanceof Exception ? (Exception) e.getCause() : e;
+		}
+	}
+	
+	/**
+	 * Retrieves the records of a synthetic dataset.
+	 * 
+	 * @param count amount of records.
+	 * @param fields amount of fields of every record, besides Id, Description and the nested Address and Lines.
+	 * @return one JSON object per record, in plain text.
+	 */
+	private static String[] getRecords(int count, int fields) {
+		String[] records = new String[count];
+		
+		for (int i = 0; i < count; i++) {
+			StringBuilder builder = new StringBuilder("{\"Id\":\"id-").append(i).append("\",\"Description\":\"description ").append(i).append('"');
+			
+			//a nested object and an array of objects, stored in their own tables.
+			builder.append(",\"Address\":{\"Street\":\"street ").append(i % 100).append("\",\"Number\":").append(i).append('}')
+				.append(",\"Lines\":[{\"Sku\":\"sku-").append(i).append("\",\"Quantity\":").append(i % 5 + 1).append('}')
+				.append(",{\"Sku\":\"sku-").append(i + 1).append("\",\"Quantity\":").append(i % 3 + 1).append("}]");
+			
+			for (int j = 0; j < fields; j++) {
+				builder.append(",\"Field").append(j).append("\":");
+				switch (j % 4) {
+					case 0:
+						//every other string field has only a few distinct values, like a status.
+						if (j % 8 == 4)
+							builder.append('"').append("status ").append((i + j) % 4).append('"');
+						else
+							builder.append('"').append("value ").append(i * 31 + j).append('"');
+						break;
+					case 1:
+						builder.append(i + j);
+						break;
+					case 2:
+						builder.append(i + j).append(".25");
+						break;
+					default:
+						builder.append((i + j) % 2 == 0);
+				}
+			}
+			
+			records[i] = builder.append('}').toString();
+		}
+		
+		return records;
+	}
+	
+	/**
+	 * Deletes a file or a folder with its content.
+	 * 
+	 * @param file file or folder.
+	 * @throws IOException if a file can not be deleted.
+	 */
+	private static void delete(File file) throws IOException {
+		File[] children = file.listFiles();
+		if (children != null) {
+			for (File child : children)
+				delete(child);
+		}
+		
+		Files.deleteIfExists(file.toPath());
+	}
+}
@@ -0,0 +1,229 @@
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+
+/**
+ * <p>
+ * Benchmarks of the generator pipeline, used as a regression baseline before any performance work:
+ * </p>
+ * <ul>
+ * <li>JSONParser.parseLine() over every field of a formatted object.</li>
+ * <li>JSONParser.parse() of a whole object read by the tokenizer.</li>
+ * <li>DatabaseGenerator.getTableDefinition() and getMethodsDefinition().</li>
+ * <li>ClassCreator.getClassDefinition().</li>
+ * <li>SchemaInference.infer() of NDJSON sample files, sequential and in parallel.</li>
+ * </ul>
+ * <p>
+ * The schemas have 10, 100, 1000 and 5000 fields and the sample files go from 1 KB to 1 GB, every
+ * parameter can be changed through the arguments:
+ * </p>
+ * <ul>
+ * <li>--fields 10,100,1000,5000: amount of fields of the generated schemas.</li>
+ * <li>--sizes 1k,1m,1g: sizes of the sample files (k, m, g suffixes).</li>
+ * <li>--warmup n / --iterations n / --time ms: warmup and measured iterations, duration of each one.</li>
+ * <li>--filter text: only runs the benchmarks whose name contains the text.</li>
+ * </ul>
+ * <p>
+ * Run it with: <code>javac -d bin $(find src bench -name '*.java') &amp;&amp; java -cp bin GeneratorBenchmark</code>
+ * </p>
+ * 
+ * @author Lucas De Morais Cabrales
+ * @since 2026-10-17
+ */
+public class GeneratorBenchmark {
+	
+	/**
+	 * Runs every benchmark with the parameters of the arguments.
+	 * 
+	 * @param args see the class documentation.
+	 * @throws Exception if a benchmark fails.
+	 */
+	public static void main(String[] args) throws Exception {
+		String fields = "10,100,1000,5000";
+		String sizes = "1k,1m,1g";
+		int warmup = 3, iterations = 5;
+		long time = 1000;
+		String filter = "";
+		
+		for (int i = 0; i < args.length - 1; i += 2) {
+			String value = args[i + 1];
+			switch (args[i]) {
+				case "--fields":
+					fields = value;
+					break;
+				case "--sizes":
+					sizes = value;
+					break;
+				case "--warmup":
+					warmup = Integer.parseInt(value);
+					break;
+				case "--iterations":
+					iterations = Integer.parseInt(value);
+					break;
+				case "--time":
+					time = Long.parseLong(value);
+					break;
+				case "--filter":
+					filter = value;
+					break;
+				default:
+					throw new IllegalArgumentException("Unknown argument: " + args[i]);
+			}
+		}
+		
+		Benchmark benchmark = new Benchmark(warmup, iterations, time);
+		benchmark.setFilter(filter);
+		benchmark.printHeader();
+		
+		for (String count : fields.split(","))
+			runGeneratorBenchmarks(benchmark, Integer.parseInt(count.trim()));
+		
+		for (String size : sizes.split(","))
+			runInferenceBenchmarks(benchmark, size.trim());
+	}
+	
+	/**
+	 * Runs the benchmarks of the code generation for a schema with the given amount of fields.
+	 * 
+	 * @param benchmark harness running the benchmarks.
+	 * @param count amount of fields of the schema.
+	 * @throws Exception if a benchmark fails.
+	 */
+	private static void runGeneratorBenchmarks(Benchmark benchmark, int count) throws Exception {
+		String object = getFormattedObject(count);
+		String[] lines = object.split("\n");
+		
+		benchmark.run("parseLine fields=" + count, () -> {
+			JSONParser parser = new JSONParser("Sample");
+			int length = 0;
+			
+			//every line but the braces is a field.
+			for (int i = 1; i < lines.length - 1; i++)
+				length += parser.parseLine(lines[i], "Field0").length();
+			
+			return length;
+		});
+		
+		benchmark.run("parse fields=" + count, () -> new JSONParser("Sample").parse(new StringReader(object), "Field0"));
+		
+		JSONParser parser = new JSONParser("Sample");
+		String json = parser.parse(new StringReader(object), "Field0");
+		ArrayList<Variable> variables = parser.getVariables();
+		String variablesDefinition = parser.getVariablesDefinition();
+		
+		benchmark.run("getTableDefinition fields=" + count,
+				() -> new DatabaseGenerator("Sample", variables).getTableDefinition());
+		
+		benchmark.run("getMethodsDefinition fields=" + count,
+				() -> new DatabaseGenerator("Sample", variables).getMethodsDefinition(true, "Field0", "Field1"));
+		
+		DatabaseGenerator dbGenerator = new DatabaseGenerator("Sample", variables);
+		String tableHeaders = dbGenerator.getTableDefinition();
+		String database = dbGenerator.getMethodsDefinition(true, "Field0", "Field1");
+		
+		benchmark.run("getClassDefinition fields=" + count,
+				() -> new ClassCreator("Sample", tableHeaders, variablesDefinition, json, database).getClassDefinition());
+	}
+	
+	/**
+	 * Runs the benchmarks of the schema inference of a sample file.
+	 * 
+	 * @param benchmark harness running the benchmarks.
+	 * @param size size of the sample file, with an optional k, m or g suffix.
+	 * @throws Exception if a benchmark fails.
+	 */
+	private static void runInferenceBenchmarks(Benchmark benchmark, String size) throws Exception {
+		String sequential = "infer size=" + size;
+		String parallel = "inferParallel size=" + size;
+		
+		//the sample file is only written when it is used.
+		if (!benchmark.isRun(sequential) && !benchmark.isRun(parallel))
+			return;
+		
+		Path sample = createSample(parseSize(size));
+		try {
+			benchmark.run(sequential, () -> SchemaInference.infer(sample));
+			benchmark.run(parallel, () -> SchemaInference.inferParallel(sample, Runtime.getRuntime().availableProcessors()));
+		} finally {
+			Files.deleteIfExists(sample);
+		}
+	}
+	
+	/**
+	 * Retrieves a formatted JSON object, one field per line, with every kind of value.
+	 * 
+	 * @param count amount of fields.
+	 * @return JSON object in plain text.
+	 */
+	private static String getFormattedObject(int count) {
+		StringBuilder builder = new StringBuilder("{\n");
+		
+		for (int i = 0; i < count; i++) {
+			builder.append("\"Field").append(i).append("\" : ").append(getValue(i));
+			builder.append(i < count - 1 ? ",\n" : "\n");
+		}
+		
+		return builder.append("}").toString();
+	}
+	
+	/**
+	 * Retrieves the value of a field, cycling through strings, integers, doubles, booleans and nulls.
+	 * 
+	 * @param index index of the field.
+	 * @return JSON value in plain text.
+	 */
+	private static String getValue(int index) {
+		switch (index % 5) {
+			case 0:
+				return "\"value " + index + "\"";
+			case 1:
+				return String.valueOf(index);
+			case 2:
+				return index + ".5";
+			case 3:
+				return index % 2 == 0 ? "true" : "false";
+			default:
+				return "null";
+		}
+	}
+	
+	/**
+	 * Writes a temporary NDJSON sample file of records with 100 fields.
+	 * 
+	 * @param size size of the file, in bytes.
+	 * @return path of the sample file.
+	 * @throws IOException if the file can not be written.
+	 */
+	private static Path createSample(long size) throws IOException {
+		String record = getFormattedObject(100).replace("\n", "");
+		Path sample = Files.createTempFile("sample", ".ndjson");
+		long written = 0;
+		
+		try (BufferedWriter writer = Files.newBufferedWriter(sample, StandardCharsets.UTF_8)) {
+			do {
+				writer.write(record);
+				writer.write('\n');
+				written += record.length() + 1;
+			} while (written < size);
+		}
+		
+		return sample;
+	}
+	
+	/**
+	 * Parses a size with an optional k, m or g suffix.
+	 * 
+	 * @param size size in plain text. E.g.: 64m
+	 * @return size in bytes.
+	 */
+	private static long parseSize(String size) {
+		char suffix = Character.toLowerCase(size.charAt(size.length() - 1));
+		long unit = suffix == 'k' ? 1L << 10 : suffix == 'm' ? 1L << 20 : suffix == 'g' ? 1L << 30 : 1;
+		
+		return Long.parseLong(unit == 1 ? size : size.substring(0, size.length() - 1)) * unit;
+	}
+}
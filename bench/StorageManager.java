@@ -0,0 +1,34 @@
+import android.database.sqlite.SQLiteDatabase;
+
+/**
+ * Stand-in of the StorageManager class of the app, only used to run the generated classes outside of
+ * Android.
+ * 
+ * @author Lucas De Morais Cabrales
+ * @since 2026-10-17
+ */
+public class StorageManager {
+	
+	/**
+	 * Database used by the generated classes.
+	 */
+	private static SQLiteDatabase db;
+	
+	/**
+	 * Retrieves the database used by the generated classes.
+	 * 
+	 * @return database.
+	 */
+	public static SQLiteDatabase getDb() {
+		return db;
+	}
+	
+	/**
+	 * Sets the database used by the generated classes.
+	 * 
+	 * @param db database.
+	 */
+	public static void setDb(SQLiteDatabase db) {
+		StorageManager.db = db;
+	}
+}
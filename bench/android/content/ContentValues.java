@@ -0,0 +1,106 @@
+package android.content;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Stand-in of the Android ContentValues, only used to run the generated classes outside of Android.
+ * 
+ * @author Lucas De Morais Cabrales
+ * @since 2026-10-17
+ */
+public class ContentValues {
+	
+	/**
+	 * Values by column name, in order.
+	 */
+	private Map<String, Object> values = new LinkedHashMap<>();
+	
+	/**
+	 * Sets the value of a column.
+	 * 
+	 * @param key name of the column.
+	 * @param value value of the column.
+	 */
+	public void put(String key, String value) {
+		values.put(key, value);
+	}
+	
+	/**
+	 * Sets the value of a column.
+	 * 
+	 * @param key name of the column.
+	 * @param value value of the column.
+	 */
+	public void put(String key, Integer value) {
+		values.put(key, value);
+	}
+	
+	/**
+	 * Sets the value of a column.
+	 * 
+	 * @param key name of the column.
+	 * @param value value of the column.
+	 */
+	public void put(String key, Long value) {
+		values.put(key, value);
+	}
+	
+	/**
+	 * Sets the value of a column.
+	 * 
+	 * @param key name of the column.
+	 * @param value value of the column.
+	 */
+	public void put(String key, Double value) {
+		values.put(key, value);
+	}
+	
+	/**
+	 * Sets the value of a column.
+	 * 
+	 * @param key name of the column.
+	 * @param value value of the column.
+	 */
+	public void put(String key, Boolean value) {
+		values.put(key, value);
+	}
+	
+	/**
+	 * Sets a column to null.
+	 * 
+	 * @param key name of the column.
+	 */
+	public void putNull(String key) {
+		values.put(key, null);
+	}
+	
+	/**
+	 * Retrieves the value of a column.
+	 * 
+	 * @param key name of the column.
+	 * @return value of the column.
+	 */
+	public Object get(String key) {
+		return values.get(key);
+	}
+	
+	/**
+	 * Retrieves the names of the columns.
+	 * 
+	 * @return names of the columns, in order.
+	 */
+	public Set<String> keySet() {
+		return values.keySet();
+	}
+	
+	/**
+	 * Retrieves the amount of columns.
+	 * 
+	 * @return amount of columns.
+	 */
+	public int size() {
+		return values.size();
+	}
+}
@@ -0,0 +1,94 @@
+package android.database;
+
+import java.io.Closeable;
+
+/**
+ * Stand-in of the Android Cursor, only used to run the generated classes outside of Android.
+ * 
+ * @author Lucas De Morais Cabrales
+ * @since 2026-10-17
+ */
+public interface Cursor extends Closeable {
+	
+	/**
+	 * Moves to the first row.
+	 * 
+	 * @return false if there are no rows.
+	 */
+	boolean moveToFirst();
+	
+	/**
+	 * Moves to the next row.
+	 * 
+	 * @return false if the cursor is already past the last row.
+	 */
+	boolean moveToNext();
+	
+	/**
+	 * Whether the cursor is past the last row.
+	 * 
+	 * @return true if there are no more rows.
+	 */
+	boolean isAfterLast();
+	
+	/**
+	 * Retrieves the amount of rows.
+	 * 
+	 * @return amount of rows.
+	 */
+	int getCount();
+	
+	/**
+	 * Retrieves the index of a column.
+	 * 
+	 * @param columnName name of the column.
+	 * @return index of the column, -1 if it doesn't exist.
+	 */
+	int getColumnIndex(String columnName);
+	
+	/**
+	 * Retrieves a column of the current row as a string.
+	 * 
+	 * @param columnIndex index of the column.
+	 * @return value of the column.
+	 */
+	String getString(int columnIndex);
+	
+	/**
+	 * Retrieves a column of the current row as an int.
+	 * 
+	 * @param columnIndex index of the column.
+	 * @return value of the column, 0 if it is null.
+	 */
+	int getInt(int columnIndex);
+	
+	/**
+	 * Retrieves a column of the current row as a long.
+	 * 
+	 * @param columnIndex index of the column.
+	 * @return value of the column, 0 if it is null.
+	 */
+	long getLong(int columnIndex);
+	
+	/**
+	 * Retrieves a column of the current row as a double.
+	 * 
+	 * @param columnIndex index of the column.
+	 * @return value of the column, 0 if it is null.
+	 */
+	double getDouble(int columnIndex);
+	
+	/**
+	 * Whether a column of the current row is null.
+	 * 
+	 * @param columnIndex index of the column.
+	 * @return true if the value is null.
+	 */
+	boolean isNull(int columnIndex);
+	
+	/**
+	 * Releases the cursor.
+	 */
+	@Override
+	void close();
+}
@@ -0,0 +1,57 @@
+package android.database;
+
+import android.database.sqlite.SQLiteDatabase;
+
+/**
+ * Stand-in of the Android DatabaseUtils, only used to run the generated classes outside of Android.
+ * 
+ * @author Lucas De Morais Cabrales
+ * @since 2026-10-17
+ */
+public class DatabaseUtils {
+	
+	/**
+	 * Retrieves the amount of rows of a table.
+	 * 
+	 * @param db database of the table.
+	 * @param table name of the table.
+	 * @return amount of rows.
+	 */
+	public static long queryNumEntries(SQLiteDatabase db, String table) {
+		return queryNumEntries(db, table, null, null);
+	}
+	
+	/**
+	 * Retrieves the amount of rows of a table matching a selection.
+	 * 
+	 * @param db database of the table.
+	 * @param table name of the table.
+	 * @param selection where clause, without the where keyword, null for every row.
+	 * @param selectionArgs values of the parameters of the selection.
+	 * @return amount of rows.
+	 */
+	public static long queryNumEntries(SQLiteDatabase db, String table, String selection, String[] selectionArgs) {
+		String where = selection == null || selection.isEmpty() ? "" : " where " + selection;
+		return longForQuery(db, "select count(*) from " + table + where, selectionArgs);
+	}
+	
+	/**
+	 * Runs a query and retrieves the first column of the first row.
+	 * 
+	 * @param db database to query.
+	 * @param query SQL query.
+	 * @param selectionArgs values of the parameters of the query.
+	 * @return value of the first column.
+	 */
+	public static long longForQuery(SQLiteDatabase db, String query, String[] selectionArgs) {
+		Cursor c = db.rawQuery(query, selectionArgs);
+		try {
+			if (!c.moveToFirst())
+				throw new IllegalStateException("The query returned no rows: " + query);
+			
+			return c.getLong(0);
+		} finally {
+			c.close();
+		}
+	}
+}
@@ -0,0 +1,143 @@
+package android.database;
+
+import java.util.ArrayList;
+
+/**
+ * Stand-in of the Android MatrixCursor, only used to run the generated classes outside of Android.
+ * Every row of a query is copied in memory, like the window of an Android cursor.
+ * 
+ * @author Lucas De Morais Cabrales
+ * @since 2026-10-17
+ */
+public class MatrixCursor implements Cursor {
+	
+	/**
+	 * Names of the columns.
+	 */
+	private String[] columnNames;
+	/**
+	 * Values of the rows.
+	 */
+	private ArrayList<Object[]> rows = new ArrayList<>();
+	/**
+	 * Index of the current row.
+	 */
+	private int position = -1;
+	
+	/**
+	 * Constructor of the class.
+	 * 
+	 * @param columnNames Names of the columns.
+	 */
+	public MatrixCursor(String[] columnNames) {
+		this.columnNames = columnNames;
+	}
+	
+	/**
+	 * Adds a row.
+	 * 
+	 * @param columnValues values of the row, in the order of the columns.
+	 */
+	public void addRow(Object[] columnValues) {
+		rows.add(columnValues);
+	}
+	
+	@Override
+	public boolean moveToFirst() {
+		position = 0;
+		return !rows.isEmpty();
+	}
+	
+	@Override
+	public boolean moveToNext() {
+		if (position < rows.size())
+			position++;
+		
+		return position < rows.size();
+	}
+	
+	@Override
+	public boolean isAfterLast() {
+		return rows.isEmpty() || position >= rows.size();
+	}
+	
+	@Override
+	public int getCount() {
+		return rows.size();
+	}
+	
+	@Override
+	public int getColumnIndex(String columnName) {
+		for (int i = 0; i < columnNames.length; i++) {
+			if (columnNames[i].equalsIgnoreCase(columnName))
+				return i;
+		}
+		
+		return -1;
+	}
+	
+	/**
+	 * Retrieves a column of the current row.
+	 * 
+	 * @param columnIndex index of the column.
+	 * @return value of the column.
+	 */
+	private Object get(int columnIndex) {
+		if (position < 0 || position >= rows.size())
+			throw new IllegalStateException("Index " + position + " requested, with a size of " + rows.size());
+		
+		return rows.get(position)[columnIndex];
+	}
+	
+	/**
+	 * Retrieves a column of the current row as a number, converting the text like SQLite does.
+	 * 
+	 * @param columnIndex index of the column.
+	 * @return value of the column, 0 if it is null or not a number.
+	 */
+	private Number getNumber(int columnIndex) {
+		Object value = get(columnIndex);
+		if (value instanceof Number)
+			return (Number) value;
+		else if (value instanceof Boolean)
+			return (Boolean) value ? 1 : 0;
+		
+		try {
+			return value == null ? 0 : Double.parseDouble(value.toString());
+		} catch (NumberFormatException e) {
+			return 0;
+		}
+	}
+	
+	@Override
+	public String getString(int columnIndex) {
+		Object value = get(columnIndex);
+		return value == null ? null : value.toString();
+	}
+	
+	@Override
+	public int getInt(int columnIndex) {
+		return getNumber(columnIndex).intValue();
+	}
+	
+	@Override
+	public long getLong(int columnIndex) {
+		return getNumber(columnIndex).longValue();
+	}
+	
+	@Override
+	public double getDouble(int columnIndex) {
+		return getNumber(columnIndex).doubleValue();
+	}
+	
+	@Override
+	public boolean isNull(int columnIndex) {
+		return get(columnIndex) == null;
+	}
+	
+	@Override
+	public void close() {
+		rows = new ArrayList<>();
+		position = -1;
+	}
+}
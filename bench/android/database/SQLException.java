@@ -0,0 +1,25 @@
+package android.database;
+
+/**
+ * Stand-in of the Android SQLException, only used to run the generated classes outside of Android.
+ * 
+ * @author Lucas De Morais Cabrales
+ * @since 2026-10-17
+ */
+public class SQLException extends RuntimeException {
+	
+	/**
+	 * Serial version of the class.
+	 */
+	private static final long serialVersionUID = 1L;
+	
+	/**
+	 * Constructor of the class.
+	 * 
+	 * @param message description of the error.
+	 * @param cause JDBC error.
+	 */
+	public SQLException(String message, Throwable cause) {
+		super(message, cause);
+	}
+}
@@ -0,0 +1,412 @@
+package android.database.sqlite;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.Statement;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import android.content.ContentValues;
+import android.database.Cursor;
+import android.database.MatrixCursor;
+import android.database.SQLException;
+
+/**
+ * <p>
+ * Stand-in of the Android SQLiteDatabase over a JDBC connection, only used to run the generated classes
+ * outside of Android. It follows the behavior of the original one where it matters for the measures:
+ * </p>
+ * <ul>
+ * <li>The compiled statements of the queries are cached, up to 25 of them.</li>
+ * <li>Every row of a query is copied into the cursor.</li>
+ * <li>Transactions can be nested, they are committed when the outermost one ends and every one of them
+ * was marked as successful.</li>
+ * <li>insert() returns -1 instead of throwing an exception.</li>
+ * </ul>
+ * 
+ * @author Lucas De Morais Cabrales
+ * @since 2026-10-17
+ */
+public class SQLiteDatabase {
+	
+	/**
+	 * Replaces the conflicting row on insertions.
+	 */
+	public static final int CONFLICT_REPLACE = 5;
+	/**
+	 * Maximum amount of cached statements, like the default size of the Android statement cache.
+	 */
+	private static final int STATEMENT_CACHE_SIZE = 25;
+	
+	/**
+	 * JDBC connection of the database.
+	 */
+	private Connection connection;
+	/**
+	 * Compiled statements of the queries, by SQL.
+	 */
+	private Map<String, PreparedStatement> statements = new LinkedHashMap<String, PreparedStatement>(0, 0.75f, true) {
+		private static final long serialVersionUID = 1L;
+		
+		@Override
+		protected boolean removeEldestEntry(Map.Entry<String, PreparedStatement> eldest) {
+			if (size() <= STATEMENT_CACHE_SIZE)
+				return false;
+			
+			close(eldest.getValue());
+			return true;
+		}
+	};
+	/**
+	 * Amount of open transactions.
+	 */
+	private int transactionDepth;
+	/**
+	 * Whether the innermost transaction was marked as successful.
+	 */
+	private boolean transactionSuccessful;
+	/**
+	 * Whether a nested transaction ended without being marked as successful.
+	 */
+	private boolean transactionFailed;
+	
+	/**
+	 * Constructor of the class.
+	 * 
+	 * @param connection JDBC connection of the database.
+	 */
+	public SQLiteDatabase(Connection connection) {
+		this.connection = connection;
+	}
+	
+	/**
+	 * Retrieves the JDBC connection of the database.
+	 * 
+	 * @return JDBC connection.
+	 */
+	Connection getConnection() {
+		return connection;
+	}
+	
+	/**
+	 * Runs a SQL statement which doesn't return rows.
+	 * 
+	 * @param sql SQL statement.
+	 * @throws SQLException if the statement fails.
+	 */
+	public void execSQL(String sql) {
+		try (Statement statement = connection.createStatement()) {
+			statement.execute(sql);
+		} catch (java.sql.SQLException e) {
+			throw new SQLException(e.getMessage(), e);
+		}
+	}
+	
+	/**
+	 * Inserts a row.
+	 * 
+	 * @param table name of the table.
+	 * @param nullColumnHack not used.
+	 * @param values values of the columns.
+	 * @return rowid of the new row, -1 if it failed.
+	 */
+	public long insert(String table, String nullColumnHack, ContentValues values) {
+		return insertWithOnConflict(table, nullColumnHack, values, 0);
+	}
+	
+	/**
+	 * Inserts or replaces a row.
+	 * 
+	 * @param table name of the table.
+	 * @param nullColumnHack not used.
+	 * @param values values of the columns.
+	 * @return rowid of the new row, -1 if it failed.
+	 */
+	public long replace(String table, String nullColumnHack, ContentValues values) {
+		return insertWithOnConflict(table, nullColumnHack, values, CONFLICT_REPLACE);
+	}
+	
+	/**
+	 * Inserts a row.
+	 * 
+	 * @param table name of the table.
+	 * @param nullColumnHack not used.
+	 * @param values values of the columns.
+	 * @param conflictAlgorithm CONFLICT_REPLACE to replace the conflicting row, 0 to fail.
+	 * @return rowid of the new row, -1 if it failed.
+	 */
+	public long insertWithOnConflict(String table, String nullColumnHack, ContentValues values, int conflictAlgorithm) {
+		StringBuilder columns = new StringBuilder();
+		StringBuilder params = new StringBuilder();
+		for (String key : values.keySet()) {
+			columns.append(columns.length() == 0 ? "" : ", ").append(key);
+			params.append(params.length() == 0 ? "?" : ", ?");
+		}
+		
+		String sql = (conflictAlgorithm == CONFLICT_REPLACE ? "insert or replace into " : "insert into ") + table
+				+ " (" + columns + ") values (" + params + ")";
+		
+		try {
+			PreparedStatement statement = prepare(sql);
+			int index = 1;
+			for (String key : values.keySet())
+				statement.setObject(index++, values.get(key));
+			
+			statement.executeUpdate();
+			return getLastInsertRowId();
+		} catch (java.sql.SQLException e) {
+			return -1;
+		}
+	}
+	
+	/**
+	 * Runs a query.
+	 * 
+	 * @param sql SQL query.
+	 * @param selectionArgs values of the parameters, bound as strings like Android does.
+	 * @return cursor with every row of the result.
+	 * @throws SQLException if the query fails.
+	 */
+	public Cursor rawQuery(String sql, String[] selectionArgs) {
+		try {
+			PreparedStatement statement = prepare(sql);
+			for (int i = 0; selectionArgs != null && i < selectionArgs.length; i++)
+				statement.setString(i + 1, selectionArgs[i]);
+			
+			try (ResultSet result = statement.executeQuery()) {
+				ResultSetMetaData metaData = result.getMetaData();
+				String[] columnNames = new String[metaData.getColumnCount()];
+				for (int i = 0; i < columnNames.length; i++)
+					columnNames[i] = metaData.getColumnLabel(i + 1);
+				
+				MatrixCursor cursor = new MatrixCursor(columnNames);
+				while (result.next()) {
+					Object[] row = new Object[columnNames.length];
+					for (int i = 0; i < row.length; i++)
+						row[i] = result.getObject(i + 1);
+					
+					cursor.addRow(row);
+				}
+				
+				return cursor;
+			}
+		} catch (java.sql.SQLException e) {
+			throw new SQLException(e.getMessage() + ": " + sql, e);
+		}
+	}
+	
+	/**
+	 * Runs a query built from its clauses.
+	 * 
+	 * @param table name of the table.
+	 * @param columns names of the columns, null for every column.
+	 * @param selection where clause, without the where keyword.
+	 * @param selectionArgs values of the parameters of the selection.
+	 * @param groupBy group by clause, without the keywords.
+	 * @param having having clause, without the keyword.
+	 * @param orderBy order by clause, without the keywords.
+	 * @return cursor with every row of the result.
+	 * @throws SQLException if the query fails.
+	 */
+	public Cursor query(String table, String[] columns, String selection, String[] selectionArgs, String groupBy,
+			String having, String orderBy) {
+		return query(table, columns, selection, selectionArgs, groupBy, having, orderBy, null);
+	}
+	
+	/**
+	 * Runs a query built from its clauses.
+	 * 
+	 * @param table name of the table.
+	 * @param columns names of the columns, null for every column.
+	 * @param selection where clause, without the where keyword.
+	 * @param selectionArgs values of the parameters of the selection.
+	 * @param groupBy group by clause, without the keywords.
+	 * @param having having clause, without the keyword.
+	 * @param orderBy order by clause, without the keywords.
+	 * @param limit limit clause, without the keyword.
+	 * @return cursor with every row of the result.
+	 * @throws SQLException if the query fails.
+	 */
+	public Cursor query(String table, String[] columns, String selection, String[] selectionArgs, String groupBy,
+			String having, String orderBy, String limit) {
+		StringBuilder sql = new StringBuilder("select ");
+		sql.append(columns == null ? "*" : String.join(", ", columns)).append(" from ").append(table);
+		appendClause(sql, " where ", selection);
+		appendClause(sql, " group by ", groupBy);
+		appendClause(sql, " having ", having);
+		appendClause(sql, " order by ", orderBy);
+		appendClause(sql, " limit ", limit);
+		
+		return rawQuery(sql.toString(), selectionArgs);
+	}
+	
+	/**
+	 * Appends a clause to a query, unless it is empty.
+	 * 
+	 * @param sql query being built.
+	 * @param keyword keyword of the clause.
+	 * @param clause text of the clause.
+	 */
+	private static void appendClause(StringBuilder sql, String keyword, String clause) {
+		if (clause != null && !clause.isEmpty())
+			sql.append(keyword).append(clause);
+	}
+	
+	/**
+	 * Deletes rows.
+	 * 
+	 * @param table name of the table.
+	 * @param whereClause where clause, without the where keyword, null to delete every row.
+	 * @param whereArgs values of the parameters of the where clause.
+	 * @return amount of deleted rows.
+	 * @throws SQLException if the deletion fails.
+	 */
+	public int delete(String table, String whereClause, String[] whereArgs) {
+		String sql = "delete from " + table + (whereClause == null || whereClause.isEmpty() ? "" : " where " + whereClause);
+		
+		try {
+			PreparedStatement statement = prepare(sql);
+			for (int i = 0; whereArgs != null && i < whereArgs.length; i++)
+				statement.setString(i + 1, whereArgs[i]);
+			
+			return statement.executeUpdate();
+		} catch (java.sql.SQLException e) {
+			throw new SQLException(e.getMessage() + ": " + sql, e);
+		}
+	}
+	
+	/**
+	 * Compiles a SQL statement, which must be closed by the caller.
+	 * 
+	 * @param sql SQL statement.
+	 * @return compiled statement.
+	 * @throws SQLException if the statement is not valid.
+	 */
+	public SQLiteStatement compileStatement(String sql) {
+		try {
+			return new SQLiteStatement(this, connection.prepareStatement(sql));
+		} catch (java.sql.SQLException e) {
+			throw new SQLException(e.getMessage() + ": " + sql, e);
+		}
+	}
+	
+	/**
+	 * Begins a transaction, which may be nested in another one.
+	 */
+	public void beginTransaction() {
+		try {
+			if (transactionDepth == 0) {
+				connection.setAutoCommit(false);
+				transactionFailed = false;
+			}
+		} catch (java.sql.SQLException e) {
+			throw new SQLException(e.getMessage(), e);
+		}
+		
+		transactionDepth++;
+		transactionSuccessful = false;
+	}
+	
+	/**
+	 * Marks the current transaction as successful.
+	 */
+	public void setTransactionSuccessful() {
+		transactionSuccessful = true;
+	}
+	
+	/**
+	 * Ends the current transaction, the outermost one is committed if every transaction was successful and
+	 * rolled back otherwise.
+	 */
+	public void endTransaction() {
+		if (transactionDepth == 0)
+			throw new IllegalStateException("There is no open transaction");
+		
+		transactionFailed |= !transactionSuccessful;
+		transactionSuccessful = true;
+		
+		if (--transactionDepth > 0)
+			return;
+		
+		try {
+			if (transactionFailed)
+				connection.rollback();
+			else
+				connection.commit();
+			
+			connection.setAutoCommit(true);
+		} catch (java.sql.SQLException e) {
+			throw new SQLException(e.getMessage(), e);
+		}
+	}
+	
+	/**
+	 * Whether there is an open transaction.
+	 * 
+	 * @return true if a transaction was begun and not ended.
+	 */
+	public boolean inTransaction() {
+		return transactionDepth > 0;
+	}
+	
+	/**
+	 * Closes the cached statements and the connection.
+	 */
+	public void close() {
+		for (PreparedStatement statement : statements.values())
+			close(statement);
+		
+		statements.clear();
+		
+		try {
+			connection.close();
+		} catch (java.sql.SQLException e) {
+			throw new SQLException(e.getMessage(), e);
+		}
+	}
+	
+	/**
+	 * Retrieves the rowid of the last inserted row.
+	 * 
+	 * @return rowid of the row.
+	 * @throws java.sql.SQLException if the query fails.
+	 */
+	long getLastInsertRowId() throws java.sql.SQLException {
+		try (ResultSet result = prepare("select last_insert_rowid()").executeQuery()) {
+			return result.next() ? result.getLong(1) : -1;
+		}
+	}
+	
+	/**
+	 * Retrieves the cached statement of a SQL query, compiling it if it isn't cached.
+	 * 
+	 * @param sql SQL query.
+	 * @return compiled statement, without bound parameters.
+	 * @throws java.sql.SQLException if the query is not valid.
+	 */
+	private PreparedStatement prepare(String sql) throws java.sql.SQLException {
+		PreparedStatement statement = statements.get(sql);
+		if (statement == null) {
+			statement = connection.prepareStatement(sql);
+			statements.put(sql, statement);
+		} else
+			statement.clearParameters();
+		
+		return statement;
+	}
+	
+	/**
+	 * Closes a statement, ignoring the errors.
+	 * 
+	 * @param statement statement to close.
+	 */
+	private static void close(Statement statement) {
+		try {
+			statement.close();
+		} catch (java.sql.SQLException e) {
+			//the statement is discarded anyway.
+		}
+	}
+}
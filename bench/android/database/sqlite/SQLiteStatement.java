@@ -0,0 +1,159 @@
+package android.database.sqlite;
+
+import java.io.Closeable;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Types;
+
+import android.database.SQLException;
+
+/**
+ * Stand-in of the Android SQLiteStatement over a JDBC prepared statement, only used to run the generated
+ * classes outside of Android.
+ * 
+ * @author Lucas De Morais Cabrales
+ * @since 2026-10-17
+ */
+public class SQLiteStatement implements Closeable {
+	
+	/**
+	 * Database of the statement.
+	 */
+	private SQLiteDatabase db;
+	/**
+	 * Compiled JDBC statement.
+	 */
+	private PreparedStatement statement;
+	
+	/**
+	 * Constructor of the class.
+	 * 
+	 * @param db Database of the statement.
+	 * @param statement Compiled JDBC statement.
+	 */
+	SQLiteStatement(SQLiteDatabase db, PreparedStatement statement) {
+		this.db = db;
+		this.statement = statement;
+	}
+	
+	/**
+	 * Binds a string parameter.
+	 * 
+	 * @param index index of the parameter, starting at 1.
+	 * @param value value of the parameter.
+	 */
+	public void bindString(int index, String value) {
+		try {
+			statement.setString(index, value);
+		} catch (java.sql.SQLException e) {
+			throw new SQLException(e.getMessage(), e);
+		}
+	}
+	
+	/**
+	 * Binds an integer parameter.
+	 * 
+	 * @param index index of the parameter, starting at 1.
+	 * @param value value of the parameter.
+	 */
+	public void bindLong(int index, long value) {
+		try {
+			statement.setLong(index, value);
+		} catch (java.sql.SQLException e) {
+			throw new SQLException(e.getMessage(), e);
+		}
+	}
+	
+	/**
+	 * Binds a floating point parameter.
+	 * 
+	 * @param index index of the parameter, starting at 1.
+	 * @param value value of the parameter.
+	 */
+	public void bindDouble(int index, double value) {
+		try {
+			statement.setDouble(index, value);
+		} catch (java.sql.SQLException e) {
+			throw new SQLException(e.getMessage(), e);
+		}
+	}
+	
+	/**
+	 * Binds a null parameter.
+	 * 
+	 * @param index index of the parameter, starting at 1.
+	 */
+	public void bindNull(int index) {
+		try {
+			statement.setNull(index, Types.NULL);
+		} catch (java.sql.SQLException e) {
+			throw new SQLException(e.getMessage(), e);
+		}
+	}
+	
+	/**
+	 * Clears every bound parameter.
+	 */
+	public void clearBindings() {
+		try {
+			statement.clearParameters();
+		} catch (java.sql.SQLException e) {
+			throw new SQLException(e.getMessage(), e);
+		}
+	}
+	
+	/**
+	 * Runs an insertion.
+	 * 
+	 * @return rowid of the new row.
+	 * @throws SQLException if the insertion fails.
+	 */
+	public long executeInsert() {
+		try {
+			statement.executeUpdate();
+			return db.getLastInsertRowId();
+		} catch (java.sql.SQLException e) {
+			throw new SQLException(e.getMessage(), e);
+		}
+	}
+	
+	/**
+	 * Runs an update or a deletion.
+	 * 
+	 * @return amount of changed rows.
+	 * @throws SQLException if the statement fails.
+	 */
+	public int executeUpdateDelete() {
+		try {
+			return statement.executeUpdate();
+		} catch (java.sql.SQLException e) {
+			throw new SQLException(e.getMessage(), e);
+		}
+	}
+	
+	/**
+	 * Runs a query returning a single number.
+	 * 
+	 * @return value of the first column of the first row.
+	 * @throws SQLException if the query fails or it returns no rows.
+	 */
+	public long simpleQueryForLong() {
+		try (ResultSet result = statement.executeQuery()) {
+			if (!result.next())
+				throw new SQLException("The query returned no rows", null);
+			
+			return result.getLong(1);
+		} catch (java.sql.SQLException e) {
+			throw new SQLException(e.getMessage(), e);
+		}
+	}
+	
+	@Override
+	public void close() {
+		try {
+			statement.close();
+		} catch (java.sql.SQLException e) {
+			throw new SQLException(e.getMessage(), e);
+		}
+	}
+}
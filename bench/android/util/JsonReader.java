@@ -0,0 +1,490 @@
+package android.util;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.Reader;
+
+/**
+ * Stand-in of the Android JsonReader, only used to run the generated classes outside of Android.
+ * It is a pull parser over a buffered Reader, like the original one, so that the generated
+ * fromJson(JsonReader) methods are measured without building a tree.
+ * 
+ * @author Lucas De Morais Cabrales
+ * @since 2026-10-17
+ */
+public class JsonReader implements Closeable {
+	
+	/**
+	 * Scope of an array without elements yet.
+	 */
+	private static final int EMPTY_ARRAY = 0;
+	/**
+	 * Scope of an array with at least one element.
+	 */
+	private static final int NONEMPTY_ARRAY = 1;
+	/**
+	 * Scope of an object without fields yet.
+	 */
+	private static final int EMPTY_OBJECT = 2;
+	/**
+	 * Scope of an object with at least one field.
+	 */
+	private static final int NONEMPTY_OBJECT = 3;
+	/**
+	 * Scope of an object whose field name was read, but not its value.
+	 */
+	private static final int DANGLING_NAME = 4;
+	
+	/**
+	 * Input of the JSON document.
+	 */
+	private Reader in;
+	/**
+	 * Characters read from the input.
+	 */
+	private char[] buffer = new char[8192];
+	/**
+	 * Position of the next character of the buffer.
+	 */
+	private int pos;
+	/**
+	 * Amount of characters of the buffer.
+	 */
+	private int limit;
+	/**
+	 * Scopes of the open arrays and objects.
+	 */
+	private int[] stack = new int[32];
+	/**
+	 * Amount of open arrays and objects.
+	 */
+	private int size;
+	/**
+	 * Next token, null if it wasn't peeked yet.
+	 */
+	private JsonToken peeked;
+	
+	/**
+	 * Constructor of the class.
+	 * 
+	 * @param in Input of the JSON document.
+	 */
+	public JsonReader(Reader in) {
+		this.in = in;
+	}
+	
+	/**
+	 * Retrieves the next token without consuming it.
+	 * 
+	 * @return next token.
+	 * @throws IOException if the input can not be read or it is malformed.
+	 */
+	public JsonToken peek() throws IOException {
+		if (peeked != null)
+			return peeked;
+		
+		int c = nextNonWhitespace();
+		int scope = size == 0 ? -1 : stack[size - 1];
+		
+		switch (scope) {
+			case EMPTY_ARRAY:
+			case NONEMPTY_ARRAY:
+				if (c == ']')
+					return unread(JsonToken.END_ARRAY);
+				
+				if (scope == NONEMPTY_ARRAY) {
+					expect(c, ',');
+					c = nextNonWhitespace();
+				}
+				
+				stack[size - 1] = NONEMPTY_ARRAY;
+				break;
+			case EMPTY_OBJECT:
+			case NONEMPTY_OBJECT:
+				if (c == '}')
+					return unread(JsonToken.END_OBJECT);
+				
+				if (scope == NONEMPTY_OBJECT) {
+					expect(c, ',');
+					c = nextNonWhitespace();
+				}
+				
+				expect(c, '"');
+				stack[size - 1] = DANGLING_NAME;
+				return unread(JsonToken.NAME);
+			case DANGLING_NAME:
+				expect(c, ':');
+				stack[size - 1] = NONEMPTY_OBJECT;
+				c = nextNonWhitespace();
+				break;
+			default:
+				if (c == -1)
+					return peeked = JsonToken.END_DOCUMENT;
+		}
+		
+		switch (c) {
+			case '{':
+				return unread(JsonToken.BEGIN_OBJECT);
+			case '[':
+				return unread(JsonToken.BEGIN_ARRAY);
+			case '"':
+				return unread(JsonToken.STRING);
+			case 't':
+			case 'f':
+				return unread(JsonToken.BOOLEAN);
+			case 'n':
+				return unread(JsonToken.NULL);
+			case -1:
+				throw new IOException("Unexpected end of input");
+			default:
+				return unread(JsonToken.NUMBER);
+		}
+	}
+	
+	/**
+	 * Consumes the beginning of an object.
+	 * 
+	 * @throws IOException if the next token is not the beginning of an object.
+	 */
+	public void beginObject() throws IOException {
+		consume(JsonToken.BEGIN_OBJECT);
+		push(EMPTY_OBJECT);
+	}
+	
+	/**
+	 * Consumes the end of an object.
+	 * 
+	 * @throws IOException if the next token is not the end of an object.
+	 */
+	public void endObject() throws IOException {
+		consume(JsonToken.END_OBJECT);
+		size--;
+	}
+	
+	/**
+	 * Consumes the beginning of an array.
+	 * 
+	 * @throws IOException if the next token is not the beginning of an array.
+	 */
+	public void beginArray() throws IOException {
+		consume(JsonToken.BEGIN_ARRAY);
+		push(EMPTY_ARRAY);
+	}
+	
+	/**
+	 * Consumes the end of an array.
+	 * 
+	 * @throws IOException if the next token is not the end of an array.
+	 */
+	public void endArray() throws IOException {
+		consume(JsonToken.END_ARRAY);
+		size--;
+	}
+	
+	/**
+	 * Whether the current array or object has more elements.
+	 * 
+	 * @return true if the next token is not the end of the array or object.
+	 * @throws IOException if the input can not be read or it is malformed.
+	 */
+	public boolean hasNext() throws IOException {
+		JsonToken token = peek();
+		return token != JsonToken.END_OBJECT && token != JsonToken.END_ARRAY && token != JsonToken.END_DOCUMENT;
+	}
+	
+	/**
+	 * Consumes the name of a field.
+	 * 
+	 * @return name of the field.
+	 * @throws IOException if the next token is not a name.
+	 */
+	public String nextName() throws IOException {
+		check(JsonToken.NAME);
+		return readString();
+	}
+	
+	/**
+	 * Consumes a string or a number as text.
+	 * 
+	 * @return value of the string.
+	 * @throws IOException if the next token is not a string or a number.
+	 */
+	public String nextString() throws IOException {
+		JsonToken token = peek();
+		if (token == JsonToken.NUMBER) {
+			peeked = null;
+			return readLiteral();
+		}
+		
+		check(JsonToken.STRING);
+		return readString();
+	}
+	
+	/**
+	 * Consumes a boolean.
+	 * 
+	 * @return value of the boolean.
+	 * @throws IOException if the next token is not a boolean.
+	 */
+	public boolean nextBoolean() throws IOException {
+		check(JsonToken.BOOLEAN);
+		return readLiteral().equals("true");
+	}
+	
+	/**
+	 * Consumes a null value.
+	 * 
+	 * @throws IOException if the next token is not null.
+	 */
+	public void nextNull() throws IOException {
+		check(JsonToken.NULL);
+		readLiteral();
+	}
+	
+	/**
+	 * Consumes a number (or a string holding a number) as a double.
+	 * 
+	 * @return value of the number.
+	 * @throws IOException if the next token is not a number.
+	 */
+	public double nextDouble() throws IOException {
+		return Double.parseDouble(nextString());
+	}
+	
+	/**
+	 * Consumes a number (or a string holding a number) as a long.
+	 * 
+	 * @return value of the number.
+	 * @throws IOException if the next token is not a number.
+	 */
+	public long nextLong() throws IOException {
+		return Long.parseLong(nextString());
+	}
+	
+	/**
+	 * Consumes a number (or a string holding a number) as an int.
+	 * 
+	 * @return value of the number.
+	 * @throws IOException if the next token is not a number.
+	 */
+	public int nextInt() throws IOException {
+		return Integer.parseInt(nextString());
+	}
+	
+	/**
+	 * Consumes the next value, including every nested value of an array or an object.
+	 * 
+	 * @throws IOException if the input can not be read or it is malformed.
+	 */
+	public void skipValue() throws IOException {
+		switch (peek()) {
+			case BEGIN_OBJECT:
+				beginObject();
+				while (hasNext()) {
+					nextName();
+					skipValue();
+				}
+				endObject();
+				break;
+			case BEGIN_ARRAY:
+				beginArray();
+				while (hasNext())
+					skipValue();
+				endArray();
+				break;
+			case NAME:
+				nextName();
+				skipValue();
+				break;
+			case STRING:
+				nextString();
+				break;
+			default:
+				peeked = null;
+				readLiteral();
+		}
+	}
+	
+	@Override
+	public void close() throws IOException {
+		in.close();
+	}
+	
+	/**
+	 * Sets the peeked token, the first character of the token is read again when it is consumed.
+	 * 
+	 * @param token peeked token.
+	 * @return peeked token.
+	 */
+	private JsonToken unread(JsonToken token) {
+		pos--;
+		return peeked = token;
+	}
+	
+	/**
+	 * Consumes the single character of a token.
+	 * 
+	 * @param token expected token.
+	 * @throws IOException if the next token is a different one.
+	 */
+	private void consume(JsonToken token) throws IOException {
+		check(token);
+		pos++;
+	}
+	
+	/**
+	 * Checks the next token, which is about to be consumed.
+	 * 
+	 * @param token expected token.
+	 * @throws IOException if the next token is a different one.
+	 */
+	private void check(JsonToken token) throws IOException {
+		if (peek() != token)
+			throw new IOException("Expected " + token + " but was " + peeked);
+		
+		peeked = null;
+	}
+	
+	/**
+	 * Opens an array or an object.
+	 * 
+	 * @param scope scope of the array or object.
+	 */
+	private void push(int scope) {
+		if (size == stack.length) {
+			int[] newStack = new int[size * 2];
+			System.arraycopy(stack, 0, newStack, 0, size);
+			stack = newStack;
+		}
+		
+		stack[size++] = scope;
+	}
+	
+	/**
+	 * Checks a separator.
+	 * 
+	 * @param c read character.
+	 * @param expected expected character.
+	 * @throws IOException if the character is a different one.
+	 */
+	private void expect(int c, char expected) throws IOException {
+		if (c != expected)
+			throw new IOException("Expected '" + expected + "' but was " + (c == -1 ? "the end of input" : "'" + (char) c + "'"));
+	}
+	
+	/**
+	 * Reads the next character.
+	 * 
+	 * @return next character, or -1 at the end of the input.
+	 * @throws IOException if the input can not be read.
+	 */
+	private int read() throws IOException {
+		if (pos == limit) {
+			limit = in.read(buffer, 0, buffer.length);
+			pos = 0;
+			
+			if (limit <= 0) {
+				limit = 0;
+				return -1;
+			}
+		}
+		
+		return buffer[pos++];
+	}
+	
+	/**
+	 * Reads the next character which is not a whitespace.
+	 * 
+	 * @return next character, or -1 at the end of the input.
+	 * @throws IOException if the input can not be read.
+	 */
+	private int nextNonWhitespace() throws IOException {
+		int c;
+		do {
+			c = read();
+		} while (c == ' ' || c == '\t' || c == '\n' || c == '\r');
+		
+		return c;
+	}
+	
+	/**
+	 * Reads a quoted string, starting at its opening quote.
+	 * 
+	 * @return unescaped value of the string.
+	 * @throws IOException if the input can not be read or the string is not closed.
+	 */
+	private String readString() throws IOException {
+		StringBuilder builder = new StringBuilder();
+		read(); //opening quote
+		
+		while (true) {
+			int c = read();
+			
+			if (c == '"')
+				return builder.toString();
+			else if (c == -1)
+				throw new IOException("Unterminated string");
+			else if (c != '\\')
+				builder.append((char) c);
+			else {
+				c = read();
+				switch (c) {
+					case 'b':
+						builder.append('\b');
+						break;
+					case 'f':
+						builder.append('\f');
+						break;
+					case 'n':
+						builder.append('\n');
+						break;
+					case 'r':
+						builder.append('\r');
+						break;
+					case 't':
+						builder.append('\t');
+						break;
+					case 'u':
+						char[] hex = new char[4];
+						for (int i = 0; i < 4; i++)
+							hex[i] = (char) read();
+						builder.append((char) Integer.parseInt(new String(hex), 16));
+						break;
+					default:
+						builder.append((char) c);
+				}
+			}
+		}
+	}
+	
+	/**
+	 * Reads an unquoted value (number, boolean or null) up to the next delimiter.
+	 * 
+	 * @return value in plain text.
+	 * @throws IOException if the input can not be read.
+	 */
+	private String readLiteral() throws IOException {
+		StringBuilder builder = new StringBuilder();
+		
+		while (true) {
+			int c = read();
+			
+			switch (c) {
+				case -1:
+					return builder.toString();
+				case ',':
+				case ']':
+				case '}':
+				case ':':
+				case ' ':
+				case '\t':
+				case '\n':
+				case '\r':
+					pos--;
+					return builder.toString();
+				default:
+					builder.append((char) c);
+			}
+		}
+	}
+}
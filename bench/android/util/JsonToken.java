@@ -0,0 +1,20 @@
+package android.util;
+
+/**
+ * Stand-in of the Android JsonToken, only used to run the generated classes outside of Android.
+ * 
+ * @author Lucas De Morais Cabrales
+ * @since 2026-10-17
+ */
+public enum JsonToken {
+	BEGIN_ARRAY,
+	END_ARRAY,
+	BEGIN_OBJECT,
+	END_OBJECT,
+	NAME,
+	STRING,
+	NUMBER,
+	BOOLEAN,
+	NULL,
+	END_DOCUMENT
+}
@@ -0,0 +1,136 @@
+package android.util;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Stand-in of the Android LruCache, only used to run the generated classes outside of Android.
+ * 
+ * @author Lucas De Morais Cabrales
+ * @since 2026-10-17
+ * 
+ * @param <K> type of the keys.
+ * @param <V> type of the values.
+ */
+public class LruCache<K, V> {
+	
+	/**
+	 * Cached entries, in access order.
+	 */
+	private final LinkedHashMap<K, V> map;
+	/**
+	 * Maximum amount of entries.
+	 */
+	private final int maxSize;
+	/**
+	 * Amount of get() calls which found the entry.
+	 */
+	private int hitCount;
+	/**
+	 * Amount of get() calls which didn't find the entry.
+	 */
+	private int missCount;
+	
+	/**
+	 * Constructor of the class.
+	 * 
+	 * @param maxSize Maximum amount of entries.
+	 */
+	public LruCache(final int maxSize) {
+		if (maxSize <= 0)
+			throw new IllegalArgumentException("maxSize <= 0");
+		
+		this.maxSize = maxSize;
+		this.map = new LinkedHashMap<K, V>(0, 0.75f, true) {
+			private static final long serialVersionUID = 1L;
+			
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<K, V> eldest) {
+				return size() > maxSize;
+			}
+		};
+	}
+	
+	/**
+	 * Retrieves an entry, which becomes the most recently used one.
+	 * 
+	 * @param key key of the entry.
+	 * @return value of the entry, null if it isn't cached.
+	 */
+	public final synchronized V get(K key) {
+		V value = map.get(key);
+		if (value == null)
+			missCount++;
+		else
+			hitCount++;
+		
+		return value;
+	}
+	
+	/**
+	 * Caches an entry, evicting the least recently used one if the cache is full.
+	 * 
+	 * @param key key of the entry.
+	 * @param value value of the entry.
+	 * @return previous value of the entry, null if it wasn't cached.
+	 */
+	public final synchronized V put(K key, V value) {
+		if (key == null || value == null)
+			throw new NullPointerException("key == null || value == null");
+		
+		return map.put(key, value);
+	}
+	
+	/**
+	 * Removes an entry.
+	 * 
+	 * @param key key of the entry.
+	 * @return value of the entry, null if it wasn't cached.
+	 */
+	public final synchronized V remove(K key) {
+		return map.remove(key);
+	}
+	
+	/**
+	 * Removes every entry.
+	 */
+	public final synchronized void evictAll() {
+		map.clear();
+	}
+	
+	/**
+	 * Retrieves the amount of cached entries.
+	 * 
+	 * @return amount of entries.
+	 */
+	public final synchronized int size() {
+		return map.size();
+	}
+	
+	/**
+	 * Retrieves the maximum amount of entries.
+	 * 
+	 * @return maximum amount of entries.
+	 */
+	public final synchronized int maxSize() {
+		return maxSize;
+	}
+	
+	/**
+	 * Retrieves the amount of get() calls which found the entry.
+	 * 
+	 * @return amount of hits.
+	 */
+	public final synchronized int hitCount() {
+		return hitCount;
+	}
+	
+	/**
+	 * Retrieves the amount of get() calls which didn't find the entry.
+	 * 
+	 * @return amount of misses.
+	 */
+	public final synchronized int missCount() {
+		return missCount;
+	}
+}
@@ -0,0 +1,141 @@
+package org.json;
+
+import java.util.List;
+
+/**
+ * Stand-in of the org.json JSONArray, only used to run the generated classes outside of Android.
+ * 
+ * @author Lucas De Morais Cabrales
+ * @since 2026-10-17
+ */
+public class JSONArray {
+	
+	/**
+	 * Elements of the array.
+	 */
+	private List<Object> values;
+	
+	/**
+	 * Constructor of the class.
+	 * 
+	 * @param values Elements of the array.
+	 */
+	JSONArray(List<Object> values) {
+		this.values = values;
+	}
+	
+	/**
+	 * Retrieves the amount of elements.
+	 * 
+	 * @return amount of elements.
+	 */
+	public int length() {
+		return values.size();
+	}
+	
+	/**
+	 * Retrieves an element.
+	 * 
+	 * @param index index of the element.
+	 * @return value of the element.
+	 * @throws JSONException if the index is out of range.
+	 */
+	public Object get(int index) {
+		if (index < 0 || index >= values.size())
+			throw new JSONException("Index " + index + " out of range [0.." + values.size() + ")");
+		
+		return values.get(index);
+	}
+	
+	/**
+	 * Whether an element is null or doesn't exist.
+	 * 
+	 * @param index index of the element.
+	 * @return true if the element is null or doesn't exist.
+	 */
+	public boolean isNull(int index) {
+		return index < 0 || index >= values.size() || values.get(index) == JSONObject.NULL;
+	}
+	
+	/**
+	 * Retrieves an element as a string.
+	 * 
+	 * @param index index of the element.
+	 * @return value of the element in plain text.
+	 * @throws JSONException if the index is out of range.
+	 */
+	public String getString(int index) {
+		return String.valueOf(get(index));
+	}
+	
+	/**
+	 * Retrieves an element as an int.
+	 * 
+	 * @param index index of the element.
+	 * @return value of the element.
+	 * @throws JSONException if the index is out of range or the element is not a number.
+	 */
+	public int getInt(int index) {
+		return (int) JSONObject.toNumber(index, get(index)).doubleValue();
+	}
+	
+	/**
+	 * Retrieves an element as a long.
+	 * 
+	 * @param index index of the element.
+	 * @return value of the element.
+	 * @throws JSONException if the index is out of range or the element is not a number.
+	 */
+	public long getLong(int index) {
+		Number number = JSONObject.toNumber(index, get(index));
+		return number instanceof Long ? number.longValue() : (long) number.doubleValue();
+	}
+	
+	/**
+	 * Retrieves an element as a double.
+	 * 
+	 * @param index index of the element.
+	 * @return value of the element.
+	 * @throws JSONException if the index is out of range or the element is not a number.
+	 */
+	public double getDouble(int index) {
+		return JSONObject.toNumber(index, get(index)).doubleValue();
+	}
+	
+	/**
+	 * Retrieves an element as a boolean.
+	 * 
+	 * @param index index of the element.
+	 * @return value of the element.
+	 * @throws JSONException if the index is out of range or the element is not a boolean.
+	 */
+	public boolean getBoolean(int index) {
+		return JSONObject.toBoolean(index, get(index));
+	}
+	
+	/**
+	 * Retrieves a nested object.
+	 * 
+	 * @param index index of the element.
+	 * @return value of the element.
+	 * @throws JSONException if the index is out of range or the element is not an object.
+	 */
+	public JSONObject getJSONObject(int index) {
+		Object value = get(index);
+		if (!(value instanceof JSONObject))
+			throw new JSONException("Value at " + index + " is not a JSONObject");
+		
+		return (JSONObject) value;
+	}
+	
+	/**
+	 * Retrieves a nested object.
+	 * 
+	 * @param index index of the element.
+	 * @return value of the element, null if it doesn't exist or it is not an object.
+	 */
+	public JSONObject optJSONObject(int index) {
+		Object value = index < 0 || index >= values.size() ? null : values.get(index);
+		return value instanceof JSONObject ? (JSONObject) value : null;
+	}
+}
@@ -0,0 +1,24 @@
+package org.json;
+
+/**
+ * Stand-in of the org.json JSONException, only used to run the generated classes outside of Android.
+ * 
+ * @author Lucas De Morais Cabrales
+ * @since 2026-10-17
+ */
+public class JSONException extends RuntimeException {
+	
+	/**
+	 * Serial version of the class.
+	 */
+	private static final long serialVersionUID = 1L;
+	
+	/**
+	 * Constructor of the class.
+	 * 
+	 * @param message description of the error.
+	 */
+	public JSONException(String message) {
+		super(message);
+	}
+}
@@ -0,0 +1,292 @@
+package org.json;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import android.util.JsonReader;
+
+/**
+ * Stand-in of the org.json JSONObject, only used to run the generated classes outside of Android.
+ * Like the original one, the whole object is parsed into a tree when it is created.
+ * 
+ * @author Lucas De Morais Cabrales
+ * @since 2026-10-17
+ */
+public class JSONObject {
+	
+	/**
+	 * Value of the null fields.
+	 */
+	public static final Object NULL = new Object() {
+		@Override
+		public String toString() {
+			return "null";
+		}
+	};
+	
+	/**
+	 * Fields of the object, in order.
+	 */
+	private Map<String, Object> values = new LinkedHashMap<>();
+	
+	/**
+	 * Constructor of the class.
+	 * 
+	 * @param json JSON object in plain text.
+	 * @throws JSONException if the text is not a JSON object.
+	 */
+	public JSONObject(String json) {
+		try (JsonReader reader = new JsonReader(new StringReader(json))) {
+			read(reader);
+		} catch (IOException e) {
+			throw new JSONException(e.getMessage());
+		}
+	}
+	
+	/**
+	 * Constructor of the class, used for the nested objects.
+	 * 
+	 * @param reader reader positioned at the beginning of the object.
+	 * @throws IOException if the object is malformed.
+	 */
+	JSONObject(JsonReader reader) throws IOException {
+		read(reader);
+	}
+	
+	/**
+	 * Reads every field of the object.
+	 * 
+	 * @param reader reader positioned at the beginning of the object.
+	 * @throws IOException if the object is malformed.
+	 */
+	private void read(JsonReader reader) throws IOException {
+		reader.beginObject();
+		while (reader.hasNext())
+			values.put(reader.nextName(), readValue(reader));
+		reader.endObject();
+	}
+	
+	/**
+	 * Reads any JSON value.
+	 * 
+	 * @param reader reader positioned at the value.
+	 * @return String, Long, Double, Boolean, JSONObject, JSONArray or NULL.
+	 * @throws IOException if the value is malformed.
+	 */
+	static Object readValue(JsonReader reader) throws IOException {
+		switch (reader.peek()) {
+			case BEGIN_OBJECT:
+				return new JSONObject(reader);
+			case BEGIN_ARRAY:
+				ArrayList<Object> list = new ArrayList<>();
+				reader.beginArray();
+				while (reader.hasNext())
+					list.add(readValue(reader));
+				reader.endArray();
+				return new JSONArray(list);
+			case BOOLEAN:
+				return reader.nextBoolean();
+			case NULL:
+				reader.nextNull();
+				return NULL;
+			case NUMBER:
+				String number = reader.nextString();
+				if (number.indexOf('.') < 0 && number.indexOf('e') < 0 && number.indexOf('E') < 0)
+					return Long.parseLong(number);
+				
+				return Double.parseDouble(number);
+			default:
+				return reader.nextString();
+		}
+	}
+	
+	/**
+	 * Retrieves a field.
+	 * 
+	 * @param key name of the field.
+	 * @return value of the field.
+	 * @throws JSONException if the field doesn't exist.
+	 */
+	public Object get(String key) {
+		Object value = values.get(key);
+		if (value == null)
+			throw new JSONException("No value for " + key);
+		
+		return value;
+	}
+	
+	/**
+	 * Retrieves a field.
+	 * 
+	 * @param key name of the field.
+	 * @return value of the field, null if it doesn't exist.
+	 */
+	public Object opt(String key) {
+		return values.get(key);
+	}
+	
+	/**
+	 * Whether a field is null or doesn't exist.
+	 * 
+	 * @param key name of the field.
+	 * @return true if the field is null or doesn't exist.
+	 */
+	public boolean isNull(String key) {
+		Object value = values.get(key);
+		return value == null || value == NULL;
+	}
+	
+	/**
+	 * Retrieves a field as a string.
+	 * 
+	 * @param key name of the field.
+	 * @return value of the field in plain text.
+	 * @throws JSONException if the field doesn't exist.
+	 */
+	public String getString(String key) {
+		return String.valueOf(get(key));
+	}
+	
+	/**
+	 * Retrieves a field as an int.
+	 * 
+	 * @param key name of the field.
+	 * @return value of the field.
+	 * @throws JSONException if the field doesn't exist or it is not a number.
+	 */
+	public int getInt(String key) {
+		return (int) toNumber(key, get(key)).doubleValue();
+	}
+	
+	/**
+	 * Retrieves a field as a long.
+	 * 
+	 * @param key name of the field.
+	 * @return value of the field.
+	 * @throws JSONException if the field doesn't exist or it is not a number.
+	 */
+	public long getLong(String key) {
+		Number number = toNumber(key, get(key));
+		return number instanceof Long ? number.longValue() : (long) number.doubleValue();
+	}
+	
+	/**
+	 * Retrieves a field as a double.
+	 * 
+	 * @param key name of the field.
+	 * @return value of the field.
+	 * @throws JSONException if the field doesn't exist or it is not a number.
+	 */
+	public double getDouble(String key) {
+		return toNumber(key, get(key)).doubleValue();
+	}
+	
+	/**
+	 * Retrieves a field as a boolean.
+	 * 
+	 * @param key name of the field.
+	 * @return value of the field.
+	 * @throws JSONException if the field doesn't exist or it is not a boolean.
+	 */
+	public boolean getBoolean(String key) {
+		return toBoolean(key, get(key));
+	}
+	
+	/**
+	 * Retrieves a nested object.
+	 * 
+	 * @param key name of the field.
+	 * @return value of the field.
+	 * @throws JSONException if the field doesn't exist or it is not an object.
+	 */
+	public JSONObject getJSONObject(String key) {
+		Object value = get(key);
+		if (!(value instanceof JSONObject))
+			throw new JSONException("Value at " + key + " is not a JSONObject");
+		
+		return (JSONObject) value;
+	}
+	
+	/**
+	 * Retrieves a nested object.
+	 * 
+	 * @param key name of the field.
+	 * @return value of the field, null if it doesn't exist or it is not an object.
+	 */
+	public JSONObject optJSONObject(String key) {
+		Object value = values.get(key);
+		return value instanceof JSONObject ? (JSONObject) value : null;
+	}
+	
+	/**
+	 * Retrieves a nested array.
+	 * 
+	 * @param key name of the field.
+	 * @return value of the field.
+	 * @throws JSONException if the field doesn't exist or it is not an array.
+	 */
+	public JSONArray getJSONArray(String key) {
+		Object value = get(key);
+		if (!(value instanceof JSONArray))
+			throw new JSONException("Value at " + key + " is not a JSONArray");
+		
+		return (JSONArray) value;
+	}
+	
+	/**
+	 * Retrieves a nested array.
+	 * 
+	 * @param key name of the field.
+	 * @return value of the field, null if it doesn't exist or it is not an array.
+	 */
+	public JSONArray optJSONArray(String key) {
+		Object value = values.get(key);
+		return value instanceof JSONArray ? (JSONArray) value : null;
+	}
+	
+	/**
+	 * Converts a value to a number, numbers in strings are parsed like org.json does.
+	 * 
+	 * @param key name or index of the value, for the error message.
+	 * @param value value to convert.
+	 * @return numeric value.
+	 * @throws JSONException if the value is not a number.
+	 */
+	static Number toNumber(Object key, Object value) {
+		if (value instanceof Number)
+			return (Number) value;
+		
+		if (value instanceof String) {
+			try {
+				return Double.parseDouble((String) value);
+			} catch (NumberFormatException e) {
+				//handled below.
+			}
+		}
+		
+		throw new JSONException("Value at " + key + " is not a number");
+	}
+	
+	/**
+	 * Converts a value to a boolean, "true" and "false" strings are accepted like org.json does.
+	 * 
+	 * @param key name or index of the value, for the error message.
+	 * @param value value to convert.
+	 * @return boolean value.
+	 * @throws JSONException if the value is not a boolean.
+	 */
+	static boolean toBoolean(Object key, Object value) {
+		if (value instanceof Boolean)
+			return (Boolean) value;
+		
+		if ("true".equalsIgnoreCase(String.valueOf(value)))
+			return true;
+		else if ("false".equalsIgnoreCase(String.valueOf(value)))
+			return false;
+		
+		throw new JSONException("Value at " + key + " is not a boolean");
+	}
+}
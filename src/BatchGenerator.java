@@ -0,0 +1,398 @@
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.DigestOutputStream;
+import java.security.MessageDigest;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import javax.lang.model.SourceVersion;
+
+/**
+ * <p>
+ * Non-interactive generation of many classes at once, every class is generated in parallel
+ * and written to its own .java file.
+ * </p>
+ * <p>
+ * The classes are taken from either:
+ * </p>
+ * <ul>
+ * <li>A directory of samples (*.json, *.ndjson), the class name is the file name and its options
+ * are read from a sidecar file with the same name and the .options extension (optional).</li>
+ * <li>A manifest file, one class per line: <code>ClassName sample.json [options]</code>.
+ * Lines starting with # are ignored and sample paths are relative to the manifest.</li>
+ * </ul>
+ * <p>
+ * Options are separated by whitespace, as accepted by {@link GeneratorOptions#setOption(String)}.
+ * E.g.: <code>database master id=UserId filter=Name</code>
+ * </p>
+ * <p>
+ * The generation is incremental, see {@link GenerationCache}: the classes whose sample and options
+ * didn't change are skipped and only the files whose content changed are written again.
+ * </p>
+ * 
+ * @author Lucas De Morais Cabrales
+ * @since 2026-10-17
+ */
+public class BatchGenerator {
+	
+	/**
+	 * Extension of the sidecar options files.
+	 */
+	private static final String OPTIONS_EXTENSION = ".options";
+	
+	/**
+	 * Directory where the generated classes are written.
+	 */
+	private Path outputDir;
+	/**
+	 * Amount of classes generated at the same time.
+	 */
+	private int threads;
+	/**
+	 * Options in text form added to every class.
+	 */
+	private List<String> commonOptions;
+	/**
+	 * Whether every class is generated again, ignoring the cache.
+	 */
+	private boolean isForce;
+	/**
+	 * Classes generated by the previous runs.
+	 */
+	private GenerationCache cache;
+	
+	/**
+	 * Constructor of the class.
+	 * 
+	 * @param outputDir Directory where the generated classes are written.
+	 * @param threads Amount of classes generated at the same time.
+	 * @param commonOptions Options in text form added to every class.
+	 */
+	public BatchGenerator(Path outputDir, int threads, List<String> commonOptions) {
+		this.outputDir = outputDir;
+		this.threads = threads;
+		this.commonOptions = commonOptions;
+	}
+	
+	/**
+	 * Sets whether every class is generated again, ignoring the cache of the previous runs.
+	 * 
+	 * @param isForce true to ignore the cache.
+	 */
+	public void setForce(boolean isForce) {
+		this.isForce = isForce;
+	}
+	
+	/**
+	 * Generates every class of a directory of samples or a manifest file.
+	 * 
+	 * @param input Directory of samples or manifest file.
+	 * @return Summary of the generation, including the time taken by each class.
+	 * @throws IOException if the input can not be read.
+	 * @throws InterruptedException if the generation is interrupted.
+	 */
+	public String run(Path input) throws IOException, InterruptedException {
+		List<Entry> entries = Files.isDirectory(input) ? readDirectory(input) : readManifest(input);
+		Files.createDirectories(outputDir);
+		cache = isForce ? new GenerationCache(outputDir.resolve(GenerationCache.FILE_NAME)) 
+				: GenerationCache.load(outputDir.resolve(GenerationCache.FILE_NAME));
+		
+		long start = System.nanoTime();
+		ExecutorService executor = Executors.newFixedThreadPool(threads);
+		List<Future<String>> results = new ArrayList<>();
+		
+		try {
+			for (Entry entry : entries) {
+				results.add(executor.submit(() -> generate(entry)));
+			}
+			
+			StringBuilder summary = new StringBuilder();
+			int failed = 0;
+			
+			for (int i = 0; i < entries.size(); i++) {
+				try {
+					summary.append(results.get(i).get()).append('\n');
+				} catch (ExecutionException e) {
+					failed++;
+					summary.append(entries.get(i).options.getClassName()).append(": FAILED ")
+						.append(e.getCause()).append('\n');
+				}
+			}
+			
+			summary.append("Generated ").append(entries.size() - failed).append(" of ").append(entries.size())
+				.append(" classes in ").append(millis(System.nanoTime() - start)).append(" ms using ")
+				.append(threads).append(" threads.");
+			
+			List<String> classNames = new ArrayList<>();
+			for (Entry entry : entries) {
+				classNames.add(entry.options.getClassName());
+			}
+			
+			cache.retain(classNames);
+			cache.save();
+			return summary.toString();
+		} finally {
+			executor.shutdown();
+		}
+	}
+	
+	/**
+	 * Generates a single class and writes it to the output directory.
+	 * 
+	 * @param entry Class to generate.
+	 * @return Summary line of the class.
+	 * @throws IOException if the sample can not be read or the class can not be written.
+	 */
+	private String generate(Entry entry) throws IOException {
+		long start = System.nanoTime();
+		String className = entry.options.getClassName();
+		GenerationCache.Entry cached = cache.get(className);
+		boolean isCached = cached != null && cached.isComplete(outputDir);
+		String inputKey = cache.getInputKey(entry.sample, entry.options);
+		
+		if (isCached && cached.getInputKey().equals(inputKey))
+			return className + ": up to date";
+		
+		Metrics.setModel(className);
+		Metrics.Sample tokenize = Metrics.start(Metrics.Stage.TOKENIZE);
+		Schema schema = SchemaInference.infer(entry.sample);
+		Metrics.stop(tokenize);
+		long inferred = System.nanoTime();
+		String schemaKey = cache.getSchemaKey(schema, entry.options);
+		
+		//the sample changed but not its schema, so the generated classes would be the same.
+		if (isCached && cached.getSchemaKey().equals(schemaKey)) {
+			GenerationCache.Entry updated = new GenerationCache.Entry(inputKey, schemaKey);
+			updated.getFiles().putAll(cached.getFiles());
+			cache.put(className, updated);
+			Metrics.setModel(null);
+			
+			return className + ": unchanged schema, " + schema.getRecords() + " records, inference " 
+					+ millis(inferred - start) + " ms";
+		}
+		
+		GenerationCache.Entry updated = new GenerationCache.Entry(inputKey, schemaKey);
+		int written = 0;
+		
+		//every class is streamed straight to its file, nested objects have their own class.
+		try {
+			Map<String, ClassCreator> creators = new ModelGenerator(entry.options).getClassCreators(schema);
+			for (Map.Entry<String, ClassCreator> creator : creators.entrySet()) {
+				String fileName = creator.getKey() + ".java";
+				if (write(fileName, creator.getValue(), cached, updated))
+					written++;
+			}
+		} finally {
+			Metrics.setModel(null);
+		}
+		long generated = System.nanoTime();
+		
+		//the nested classes which are no longer generated.
+		if (cached != null) {
+			for (String fileName : cached.getFiles().keySet()) {
+				if (!updated.getFiles().containsKey(fileName))
+					Files.deleteIfExists(outputDir.resolve(fileName));
+			}
+		}
+		
+		cache.put(className, updated);
+		
+		return className + ": " + schema.getFields().size() + " fields, "
+				+ schema.getRecords() + " records, inference " + millis(inferred - start) 
+				+ " ms, generation " + millis(generated - inferred) + " ms, " + written + " of " 
+				+ updated.getFiles().size() + " files written";
+	}
+	
+	/**
+	 * Writes a class to a temporary file, which only replaces the current one if its content changed.
+	 * 
+	 * @param fileName Name of the file.
+	 * @param creator Class to write.
+	 * @param cached Files generated by the previous run, null if there is none.
+	 * @param updated Files generated by this run, the hash of the file is added.
+	 * @return true if the file was written, false if it was already up to date.
+	 * @throws IOException if the class can not be written.
+	 */
+	private boolean write(String fileName, ClassCreator creator, GenerationCache.Entry cached, 
+			GenerationCache.Entry updated) throws IOException {
+		Path file = outputDir.resolve(fileName);
+		Path temp = outputDir.resolve(fileName + ".tmp");
+		MessageDigest digest = GenerationCache.newDigest();
+		
+		try (Writer writer = new BufferedWriter(new OutputStreamWriter(
+				new DigestOutputStream(Files.newOutputStream(temp), digest), StandardCharsets.UTF_8))) {
+			creator.writeClassDefinition(writer);
+		}
+		
+		String hash = GenerationCache.toHex(digest.digest());
+		updated.getFiles().put(fileName, hash);
+		
+		if (cached != null && hash.equals(cached.getFiles().get(fileName)) && Files.exists(file)) {
+			Files.delete(temp);
+			return false;
+		}
+		
+		Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING);
+		return true;
+	}
+	
+	/**
+	 * Reads every sample of a directory and their sidecar options.
+	 * 
+	 * @param dir Directory of samples.
+	 * @return Classes to generate.
+	 * @throws IOException if the directory can not be read.
+	 */
+	private List<Entry> readDirectory(Path dir) throws IOException {
+		List<Entry> entries = new ArrayList<>();
+		
+		try (DirectoryStream<Path> samples = Files.newDirectoryStream(dir, "*.{json,ndjson}")) {
+			for (Path sample : samples) {
+				String fileName = sample.getFileName().toString();
+				String baseName = fileName.substring(0, fileName.lastIndexOf('.'));
+				GeneratorOptions options = newOptions(getClassName(baseName));
+				Path optionsFile = dir.resolve(baseName + OPTIONS_EXTENSION);
+				
+				if (Files.exists(optionsFile)) {
+					for (String line : Files.readAllLines(optionsFile, StandardCharsets.UTF_8)) {
+						setOptions(options, line.trim().split("\\s+"), 0);
+					}
+				}
+				
+				entries.add(new Entry(sample, options));
+			}
+		}
+		
+		entries.sort((a, b) -> a.options.getClassName().compareTo(b.options.getClassName()));
+		return entries;
+	}
+	
+	/**
+	 * Reads every class of a manifest file.
+	 * 
+	 * @param manifest Manifest file.
+	 * @return Classes to generate.
+	 * @throws IOException if the manifest can not be read or it has an invalid line.
+	 */
+	private List<Entry> readManifest(Path manifest) throws IOException {
+		List<Entry> entries = new ArrayList<>();
+		Path dir = manifest.toAbsolutePath().getParent();
+		
+		for (String line : Files.readAllLines(manifest, StandardCharsets.UTF_8)) {
+			line = line.trim();
+			
+			if (line.isEmpty() || line.startsWith("#"))
+				continue;
+			
+			String[] tokens = line.split("\\s+");
+			
+			if (tokens.length < 2)
+				throw new IOException("Expected a class name and a sample file: " + line);
+			
+			if (!SourceVersion.isName(tokens[0]))
+				throw new IOException("Invalid class name: " + line);
+			
+			GeneratorOptions options = newOptions(tokens[0]);
+			setOptions(options, tokens, 2);
+			entries.add(new Entry(dir.resolve(tokens[1]), options));
+		}
+		
+		return entries;
+	}
+	
+	/**
+	 * Creates the options of a class, including the common options.
+	 * 
+	 * @param className Name of the Java class.
+	 * @return Options of the class.
+	 */
+	private GeneratorOptions newOptions(String className) {
+		GeneratorOptions options = new GeneratorOptions(className);
+		
+		for (String option : commonOptions) {
+			options.setOption(option);
+		}
+		
+		return options;
+	}
+	
+	/**
+	 * Enables every option in text form.
+	 * 
+	 * @param options Options of the class.
+	 * @param tokens Options in text form.
+	 * @param from first token to read.
+	 */
+	private void setOptions(GeneratorOptions options, String[] tokens, int from) {
+		for (int i = from; i < tokens.length; i++) {
+			if (!tokens[i].isEmpty())
+				options.setOption(tokens[i]);
+		}
+	}
+	
+	/**
+	 * Converts a sample file name into a class name (PascalCase), every character that can't be part of
+	 * a Java identifier (and the underscores) separates two words, e.g. user-profile becomes UserProfile.
+	 * 
+	 * @param baseName file name without extension.
+	 * @return Class name.
+	 * @throws IOException if the file name can't be converted into a valid Java class name.
+	 */
+	private String getClassName(String baseName) throws IOException {
+		StringBuilder className = new StringBuilder(baseName.length());
+		boolean isWordStart = true;
+		
+		for (int i = 0; i < baseName.length(); i++) {
+			char ch = baseName.charAt(i);
+			
+			if (ch == '_' || !Character.isJavaIdentifierPart(ch)) {
+				isWordStart = true;
+				continue;
+			}
+			
+			className.append(isWordStart ? Character.toUpperCase(ch) : ch);
+			isWordStart = false;
+		}
+		
+		if (!SourceVersion.isName(className))
+			throw new IOException("The sample file name can't be converted into a class name: " + baseName);
+		
+		return className.toString();
+	}
+	
+	/**
+	 * Converts nanoseconds into milliseconds.
+	 * 
+	 * @param nanos elapsed nanoseconds.
+	 * @return Elapsed milliseconds.
+	 */
+	private static long millis(long nanos) {
+		return nanos / 1000000;
+	}
+	
+	/**
+	 * Class to generate: its sample file and its options.
+	 */
+	private static class Entry {
+		
+		private final Path sample;
+		private final GeneratorOptions options;
+		
+		Entry(Path sample, GeneratorOptions options) {
+			this.sample = sample;
+			this.options = options;
+		}
+	}
+}
@@ -0,0 +1,447 @@
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * <p>
+ * Provides the binary serialization methods in plain text from the provided class variables, a compact
+ * copy of the objects (e.g. a disk cache of the API responses) that is read back without parsing JSON:
+ * </p>
+ * <ul>
+ * <li>Header: SCHEMA_HASH as <code>writeInt</code>, a hash of the variables and of the nested classes,
+ * so that data written by a different version of the class is rejected with an IOException.</li>
+ * <li>Presence bitmap: one bit per variable in the order of the class (set when the variable has a value),
+ * followed by the value of every boolean variable, in as few bytes as needed.</li>
+ * <li>Values of the present variables, in the order of the class: zigzag varints for the integers,
+ * and the sizes, 8 bytes for the doubles, UTF-8 bytes after their size for the strings and the JSON
+ * value of the enums, and the fields of the nested objects (without header) in place. The null
+ * elements of the arrays are skipped.</li>
+ * </ul>
+ * 
+ * @author Lucas De Morais Cabrales
+ * @since 2026-10-17
+ */
+public class BinaryGenerator {
+	
+	/**
+	 * Version of the layout, part of every schema hash.
+	 */
+	private static final String FORMAT_VERSION = "binary1";
+	
+	/**
+	 * Java class name.
+	 */
+	private String className;
+	/**
+	 * List of class variables.
+	 */
+	private ArrayList<Variable> variables;
+	/**
+	 * Bit of the value of every boolean variable, following the presence bits.
+	 */
+	private List<Integer> valueBits = new ArrayList<>();
+	
+	/**
+	 * Constructor of the class.
+	 * 
+	 * @param className Java class name.
+	 * @param variables List of class variables.
+	 */
+	public BinaryGenerator(String className, ArrayList<Variable> variables) {
+		this.className = className;
+		this.variables = variables;
+		
+		int bit = variables.size();
+		for (Variable v : variables)
+			valueBits.add(v.getType() == ValueType.BOOLEAN ? bit++ : -1);
+	}
+	
+	/**
+	 * Retrieves the binary serialization methods in plain text.
+	 * 
+	 * @return Binary methods in plain text.
+	 */
+	public String getMethodsDefinition() {
+		CodeEmitter out = new CodeEmitter();
+		writeMethodsDefinition(out);
+		return out.toString();
+	}
+	
+	/**
+	 * Appends the binary serialization methods: writeTo() / readFrom() of a single object and
+	 * writeListTo() / readListFrom() of a list, every one with the schema header.
+	 * 
+	 * @param out output of the generated class.
+	 */
+	public void writeMethodsDefinition(CodeEmitter out) {
+		out.append("\n//region Binary\n");
+		out.append("public static final int SCHEMA_HASH = ").append(getSchemaHash()).append("; ");
+		
+		out.append("public void writeTo(DataOutput out) throws IOException { out.writeInt(SCHEMA_HASH); writeFields(this, out); } ")
+			.append("public static ").append(className).append(" readFrom(DataInput in) throws IOException { ")
+			.append("checkSchema(in.readInt()); return readFields(in); } ")
+			.append("public static void writeListTo(List<").append(className).append("> list, DataOutput out) throws IOException { ")
+			.append("out.writeInt(SCHEMA_HASH); writeVarLong(out, list.size()); for (").append(className)
+			.append(" obj : list) writeFields(obj, out); } ")
+			.append("public static ArrayList<").append(className).append("> readListFrom(DataInput in) throws IOException { ")
+			.append("checkSchema(in.readInt()); int size = readSize(in); ArrayList<").append(className)
+			.append("> list = new ArrayList<>(size); for (int i = 0; i < size; i++) list.add(readFields(in)); return list; } ");
+		
+		writeWriteFieldsMethod(out);
+		out.append(" ");
+		writeReadFieldsMethod(out);
+		out.append(" ");
+		writeHelperMethods(out);
+		out.append("\n\t//endregion\n\n");
+	}
+	
+	/**
+	 * Appends the writeFields() method, the bitmap and the values of an object without the header.
+	 * It's package-private, the parent classes write their nested objects in place.
+	 * 
+	 * @param out output of the generated class.
+	 */
+	private void writeWriteFieldsMethod(CodeEmitter out) {
+		out.append("static void writeFields(").append(className).append(" obj, DataOutput out) throws IOException {");
+		
+		long[] alwaysPresent = new long[getBitsetLength()];
+		for (int i = 0; i < variables.size(); i++) {
+			if (!isOptional(variables.get(i)))
+				alwaysPresent[i >> 6] |= 1L << (i & 63);
+		}
+		
+		for (int i = 0; i < alwaysPresent.length; i++)
+			out.append(" long bits").append(i).append(" = ").append(alwaysPresent[i]).append("L;");
+		
+		for (int i = 0; i < variables.size(); i++) {
+			Variable v = variables.get(i);
+			
+			if (isOptional(v))
+				out.append(" if (").append(getPresentCondition(v)).append(") ").append(getBitField(i))
+					.append(" |= ").append(getBitMask(i)).append(";");
+			
+			if (valueBits.get(i) >= 0) {
+				String value = v.isPrimitive() ? "obj." + v.getName() : "obj." + v.getName() + " != null && obj." + v.getName();
+				out.append(" if (").append(value).append(") ").append(getBitField(valueBits.get(i))).append(" |= ")
+					.append(getBitMask(valueBits.get(i))).append(";");
+			}
+		}
+		
+		writeBitmapWriteDefinition(out);
+		
+		for (int i = 0; i < variables.size(); i++) {
+			Variable v = variables.get(i);
+			
+			if (v.getType() == ValueType.BOOLEAN)
+				continue; //the value is already in the bitmap.
+			
+			out.append(" ");
+			if (isOptional(v))
+				out.append("if ((").append(getBitField(i)).append(" & ").append(getBitMask(i)).append(") != 0) ");
+			
+			writeValueWriteDefinition(out, v, "obj." + v.getName());
+		}
+		
+		out.append(" } ");
+	}
+	
+	/**
+	 * Appends the writing of the bitmap, the bytes of every long from the lowest one.
+	 * 
+	 * @param out output of the generated class.
+	 */
+	private void writeBitmapWriteDefinition(CodeEmitter out) {
+		int bits = getBitCount();
+		
+		for (int i = 0; i < bits; i += 8) {
+			out.append(" out.writeByte((int) ");
+			
+			if ((i & 63) == 0)
+				out.append(getBitField(i)).append(");");
+			else
+				out.append("(").append(getBitField(i)).append(" >>> ").append(i & 63).append("));");
+		}
+	}
+	
+	/**
+	 * Appends the writing of the value of a variable.
+	 * 
+	 * @param out output of the generated class.
+	 * @param v class variable.
+	 * @param value value of the variable in plain text.
+	 */
+	private void writeValueWriteDefinition(CodeEmitter out, Variable v, String value) {
+		switch (v.getType()) {
+			case OBJECT:
+				out.append(v.getChildClassName()).append(".writeFields(").append(value).append(", out);");
+				break;
+			case ENUM:
+				//the JSON value, new constants don't change the layout and unknown values are kept.
+				out.append("writeString(out, obj.get").append(v.getEnumValueAccessor()).append("());");
+				break;
+			case ARRAY:
+				String elementType = v.isChildArray() ? v.getChildClassName() : v.getElementType().getName();
+				
+				//null elements are skipped, as fromJson() drops them.
+				out.append("{ int size = 0; for (").append(elementType).append(" element : ").append(value)
+					.append(") if (element != null) size++; writeVarLong(out, size); for (").append(elementType)
+					.append(" element : ").append(value).append(") if (element != null) ");
+				
+				if (v.isChildArray())
+					out.append(v.getChildClassName()).append(".writeFields(element, out);");
+				else
+					out.append(getWriteStatement(v.getElementType(), "element"));
+				
+				out.append(" }");
+				break;
+			default:
+				out.append(getWriteStatement(v.getType(), value));
+		}
+	}
+	
+	/**
+	 * Appends the readFields() method, it reads an object written by writeFields(). The variables that
+	 * were not present keep the default value of the constructor.
+	 * 
+	 * @param out output of the generated class.
+	 */
+	private void writeReadFieldsMethod(CodeEmitter out) {
+		out.append("static ").append(className).append(" readFields(DataInput in) throws IOException { ")
+			.append(className).append(" obj = new ").append(className).append("();");
+		
+		int bits = getBitCount();
+		for (int i = 0; i < bits; i += 64) {
+			out.append(" long bits").append(i >> 6).append(" = ");
+			
+			for (int j = i; j < bits && j < i + 64; j += 8)
+				out.append(j == i ? "" : " | ").append(j == i ? "" : "(long) ").append("in.readUnsignedByte()")
+					.append(j == i ? "" : " << " + (j & 63));
+			
+			out.append(";");
+		}
+		
+		for (int i = 0; i < variables.size(); i++) {
+			Variable v = variables.get(i);
+			
+			out.append(" ");
+			if (isOptional(v))
+				out.append("if ((").append(getBitField(i)).append(" & ").append(getBitMask(i)).append(") != 0) ");
+			
+			out.append("{ ");
+			writeValueReadDefinition(out, v, valueBits.get(i));
+			
+			if (v.hasPresenceBit())
+				out.append(" obj.").append(v.getPresenceField()).append(" |= ").append(v.getPresenceMask()).append(";");
+			
+			out.append(" }");
+		}
+		
+		out.append(" return obj; } ");
+	}
+	
+	/**
+	 * Appends the reading of the value of a variable.
+	 * 
+	 * @param out output of the generated class.
+	 * @param v class variable.
+	 * @param valueBit bit of the value of a boolean variable.
+	 */
+	private void writeValueReadDefinition(CodeEmitter out, Variable v, int valueBit) {
+		String field = "obj." + v.getName();
+		
+		switch (v.getType()) {
+			case BOOLEAN:
+				out.append(field).append(" = (").append(getBitField(valueBit)).append(" & ").append(getBitMask(valueBit))
+					.append(") != 0;");
+				break;
+			case OBJECT:
+				out.append(field).append(" = ").append(v.getChildClassName()).append(".readFields(in);");
+				break;
+			case ENUM:
+				out.append("obj.set").append(v.getEnumValueAccessor()).append("(readString(in));");
+				break;
+			case ARRAY:
+				out.append("int size = readSize(in); ").append(field).append(" = new ArrayList<>(size); ")
+					.append("for (int i = 0; i < size; i++) ").append(field).append(".add(")
+					.append(v.isChildArray() ? v.getChildClassName() + ".readFields(in)" : getReadExpression(v.getElementType()))
+					.append(");");
+				break;
+			default:
+				out.append(field).append(" = ").append(getReadExpression(v.getType())).append(";");
+		}
+	}
+	
+	/**
+	 * Appends the helper methods of the layout, every class has its own so that it doesn't depend on
+	 * any other file.
+	 * 
+	 * @param out output of the generated class.
+	 */
+	private void writeHelperMethods(CodeEmitter out) {
+		out.append("private static void checkSchema(int schemaHash) throws IOException { if (schemaHash != SCHEMA_HASH) ")
+			.append("throw new IOException(\"Incompatible binary data of \" + TAG + \", schema \" + Integer.toHexString(schemaHash)")
+			.append(" + \" instead of \" + Integer.toHexString(SCHEMA_HASH)); } ");
+		
+		//zigzag, small negative numbers are as short as small positive ones.
+		out.append("private static void writeVarLong(DataOutput out, long value) throws IOException { ")
+			.append("value = (value << 1) ^ (value >> 63); while ((value & ~0x7FL) != 0) { ")
+			.append("out.writeByte(((int) value & 0x7F) | 0x80); value >>>= 7; } out.writeByte((int) value); } ")
+			.append("private static long readVarLong(DataInput in) throws IOException { long value = 0; ")
+			.append("for (int shift = 0; shift < 64; shift += 7) { int b = in.readUnsignedByte(); value |= (long) (b & 0x7F) << shift; ")
+			.append("if ((b & 0x80) == 0) return (value >>> 1) ^ -(value & 1); } throw new IOException(\"Malformed varint\"); } ")
+			.append("private static int readSize(DataInput in) throws IOException { long size = readVarLong(in); ")
+			.append("if (size < 0 || size > Integer.MAX_VALUE) throw new IOException(\"Invalid size: \" + size); return (int) size; } ");
+		
+		out.append("private static void writeString(DataOutput out, String value) throws IOException { ")
+			.append("byte[] bytes = value.getBytes(StandardCharsets.UTF_8); writeVarLong(out, bytes.length); out.write(bytes); } ")
+			.append("private static String readString(DataInput in) throws IOException { byte[] bytes = new byte[readSize(in)]; ")
+			.append("in.readFully(bytes); return new String(bytes, StandardCharsets.UTF_8); } ");
+	}
+	
+	/**
+	 * Whether the variable can be missing, i.e. it isn't a primitive without a presence bit.
+	 * 
+	 * @param v class variable.
+	 * @return true if the variable has a condition in the bitmap.
+	 */
+	private boolean isOptional(Variable v) {
+		return !v.isPrimitive() || v.hasPresenceBit();
+	}
+	
+	/**
+	 * Retrieves the condition of a variable having a value.
+	 * 
+	 * @param v optional class variable.
+	 * @return Condition in plain text.
+	 */
+	private String getPresentCondition(Variable v) {
+		if (v.hasPresenceBit())
+			return "(obj." + v.getPresenceField() + " & " + v.getPresenceMask() + ") != 0";
+		
+		if (v.getType() == ValueType.ENUM)
+			return "obj.get" + v.getEnumValueAccessor() + "() != null";
+		
+		return "obj." + v.getName() + " != null";
+	}
+	
+	/**
+	 * Retrieves the statement that writes a single value.
+	 * 
+	 * @param type type of the value.
+	 * @param value value in plain text.
+	 * @return Statement in plain text.
+	 */
+	private String getWriteStatement(ValueType type, String value) {
+		
+		switch(type) {
+			case STRING:
+				return "writeString(out, " + value + ");";
+			case BOOLEAN:
+				return "out.writeBoolean(" + value + ");";
+			case DOUBLE:
+				return "out.writeDouble(" + value + ");";
+			case LONG:
+			case INTEGER:
+			default:
+				return "writeVarLong(out, " + value + ");";
+		}
+	}
+	
+	/**
+	 * Retrieves the expression that reads a single value.
+	 * 
+	 * @param type type of the value.
+	 * @return Expression in plain text.
+	 */
+	private String getReadExpression(ValueType type) {
+		
+		switch(type) {
+			case STRING:
+				return "readString(in)";
+			case BOOLEAN:
+				return "in.readBoolean()";
+			case DOUBLE:
+				return "in.readDouble()";
+			case LONG:
+				return "readVarLong(in)";
+			case INTEGER:
+			default:
+				return "(int) readVarLong(in)";
+		}
+	}
+	
+	/**
+	 * Retrieves the schema hash: a hash of the layout of the variables (name, type and whether it has a
+	 * presence bit, which changes the bitmap), combined with the SCHEMA_HASH of every nested class (a 
+	 * constant expression, they are generated in the same run).
+	 * 
+	 * @return Schema hash in plain text.
+	 */
+	private String getSchemaHash() {
+		StringBuilder layout = new StringBuilder(FORMAT_VERSION);
+		
+		for (Variable v : variables) {
+			layout.append(',').append(v.getJsonName()).append(':').append(v.getType().name())
+				.append(isOptional(v) ? "?" : "");
+			
+			if (v.getType() == ValueType.ARRAY && !v.isChildArray())
+				layout.append('<').append(v.getElementType().name()).append('>');
+		}
+		
+		byte[] digest = GenerationCache.newDigest().digest(layout.toString().getBytes(StandardCharsets.UTF_8));
+		int hash = (digest[0] & 0xFF) << 24 | (digest[1] & 0xFF) << 16 | (digest[2] & 0xFF) << 8 | (digest[3] & 0xFF);
+		String schemaHash = "0x" + Integer.toHexString(hash);
+		
+		for (Variable v : variables) {
+			if (v.hasChildClass())
+				schemaHash = "(" + schemaHash + ") * 31 + " + v.getChildClassName() + ".SCHEMA_HASH";
+		}
+		
+		return schemaHash;
+	}
+	
+	/**
+	 * Retrieves the amount of bits of the bitmap, presence bits and boolean values.
+	 * 
+	 * @return Amount of bits.
+	 */
+	private int getBitCount() {
+		int bits = variables.size();
+		
+		for (int bit : valueBits) {
+			if (bit >= 0)
+				bits++;
+		}
+		
+		return bits;
+	}
+	
+	/**
+	 * Retrieves the amount of longs of the bitmap.
+	 * 
+	 * @return Amount of longs.
+	 */
+	private int getBitsetLength() {
+		return (getBitCount() + 63) >> 6;
+	}
+	
+	/**
+	 * Retrieves the name of the local long holding a bit of the bitmap.
+	 * 
+	 * @param bit bit of the bitmap.
+	 * @return Local variable name.
+	 */
+	private String getBitField(int bit) {
+		return "bits" + (bit >> 6);
+	}
+	
+	/**
+	 * Retrieves the mask of a bit of the bitmap in plain text.
+	 * 
+	 * @param bit bit of the bitmap.
+	 * @return Bit mask, e.g. (1L << 3)
+	 */
+	private String getBitMask(int bit) {
+		return "(1L << " + (bit & 63) + ")";
+	}
+}
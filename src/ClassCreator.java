@@ -1,3 +1,8 @@
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.util.LinkedHashSet;
+
 
 /**
  * Generates the full class in plain text containing the specified methods and definitions.
@@ -14,19 +19,19 @@ public class ClassCreator {
 	/**
 	 * Database headers (constants).
 	 */
-	private String tableHeaders;
+	private CodeSection tableHeaders;
 	/**
-	 * Java class variables in plain text.
+	 * Java class variables.
 	 */
-	private String variables;
+	private CodeSection variables;
 	/**
-	 * fromJson() method in plain text.
+	 * fromJson() method.
 	 */
-	private String json;
+	private CodeSection json;
 	/**
-	 * Compilation of database methods in plain text.
+	 * Compilation of database methods.
 	 */
-	private String database;
+	private CodeSection database;
 	/**
 	 * Whether to output the database methods.
 	 */
@@ -35,6 +40,14 @@ public class ClassCreator {
 	 * Whether to output the needed imports.
 	 */
 	private boolean hasImports = true;
+	/**
+	 * Imports needed by optional methods, fully qualified class names.
+	 */
+	private LinkedHashSet<String> extraImports = new LinkedHashSet<>();
+	/**
+	 * Package of the class, null for the default package.
+	 */
+	private String packageName;
 	
 	/**
 	 * Full constructor with database option
@@ -47,6 +60,22 @@ public class ClassCreator {
 	 */
 	public ClassCreator(String className, String tableHeaders, 
 			String variables, String json, String database) {
+		this(className, out -> out.append(tableHeaders), out -> out.append(variables), 
+				out -> out.append(json), out -> out.append(database));
+	}
+	
+	/**
+	 * Full constructor with database option, every part is appended straight to the output
+	 * when the class is assembled.
+	 * 
+	 * @param className Name of the class
+	 * @param tableHeaders Database table definition
+	 * @param variables Java model variables
+	 * @param json fromJson() method
+	 * @param database Database methods
+	 */
+	public ClassCreator(String className, CodeSection tableHeaders, 
+			CodeSection variables, CodeSection json, CodeSection database) {
 		this.className = className;
 		this.tableHeaders = tableHeaders;
 		this.variables = variables;
@@ -64,6 +93,18 @@ public class ClassCreator {
 	 * @param json fromJson() method
 	 */
 	public ClassCreator(String className, String variables, String json) {
+		this(className, out -> out.append(variables), out -> out.append(json));
+	}
+	
+	/**
+	 * Constructor that generates the simplified class without database, every part is appended
+	 * straight to the output when the class is assembled.
+	 * 
+	 * @param className Name of the class
+	 * @param variables Java model variables
+	 * @param json fromJson() method
+	 */
+	public ClassCreator(String className, CodeSection variables, CodeSection json) {
 		this.className = className;
 		this.variables = variables;
 		this.json = json;
@@ -71,39 +112,111 @@ public class ClassCreator {
 		isDatabase = false;
 	}
 	
+	/**
+	 * Adds an import needed by an optional method, duplicates are ignored.
+	 * 
+	 * @param name fully qualified class name.
+	 */
+	public void addImport(String name) {
+		extraImports.add(name);
+	}
+	
+	/**
+	 * Sets the package of the class, it's declared before the imports.
+	 * 
+	 * @param packageName fully qualified package name, null or empty for the default package.
+	 */
+	public void setPackageName(String packageName) {
+		this.packageName = packageName;
+	}
+	
 	/**
 	 * Retrieves the full class text value, it's the final response of the program.
 	 * 
 	 * @return Full class definition in plain text.
 	 */
 	public String getClassDefinition() {
-		String classDefinition = getImports() + "\n// Model auto-generated by JSONParser\n"
-				+ "\npublic class " + className + " { \n";
-		if (isDatabase) 
-			return classDefinition + tableHeaders + "\n" + getTag() + "\n" + variables + "\n"
-					+ "\n" + getConstructor() + " " + json + " " + database + "}";
-		else 
-			return classDefinition + getTag() + "\n" + variables + "\n" 
-					+ " " + getConstructor() + " " + json + "}";
+		CodeEmitter out = new CodeEmitter();
+		writeClassDefinition(out);
+		return out.toString();
+	}
+	
+	/**
+	 * Streams the full class definition to a Writer, without keeping it in memory.
+	 * 
+	 * @param writer destination of the class definition.
+	 * @throws IOException if the class can not be written.
+	 */
+	public void writeClassDefinition(Writer writer) throws IOException {
+		try {
+			CodeEmitter out = new CodeEmitter(writer);
+			writeClassDefinition(out);
+			out.flush();
+		} catch (UncheckedIOException e) {
+			throw e.getCause();
+		}
+	}
+	
+	/**
+	 * Appends the full class definition, every part is appended to the same output.
+	 * 
+	 * @param out output of the generated class.
+	 */
+	public void writeClassDefinition(CodeEmitter out) {
+		Metrics.Sample sample = Metrics.start(Metrics.Stage.CLASS_CREATOR);
+		long length = out.getLength();
+		
+		if (packageName != null && !packageName.isEmpty())
+			out.append("package ").append(packageName).append(";\n");
+		
+		writeImports(out);
+		out.append("\n// Model auto-generated by JSONParser\n")
+			.append("\npublic class ").append(className).append(" { \n");
+		
+		if (isDatabase) {
+			tableHeaders.emit(out);
+			out.append("\n").append(getTag()).append("\n");
+			variables.emit(out);
+			out.append("\n").append("\n").append(getConstructor()).append(" ");
+			json.emit(out);
+			out.append(" ");
+			database.emit(out);
+			out.append("}");
+		} else {
+			out.append(getTag()).append("\n");
+			variables.emit(out);
+			out.append("\n").append(" ").append(getConstructor()).append(" ");
+			json.emit(out);
+			out.append("}");
+		}
+		
+		Metrics.add(Metrics.Counter.OUTPUT_CHARS, out.getLength() - length);
+		Metrics.stop(sample);
 	}
 	
 	/**
-	 * Retrieves the needed definitions of class imports, 
+	 * Appends the needed definitions of class imports, 
 	 * only if it is enabled by the hard-coded variable {@link hasImports}
 	 * 
-	 * @return Needed import definitions in plain text, or nothing.
-	 */
-	private String getImports() {
-		if (hasImports) {
-			String imports = "import org.json.JSONException; import org.json.JSONObject;";
-			
-			if (isDatabase) {
-				imports += "import android.content.ContentValues; import android.database.Cursor;"
-						+ "import java.util.ArrayList;";
-			}
-			
-			return imports;
-		} else return "";
+	 * @param out output of the generated class.
+	 */
+	private void writeImports(CodeEmitter out) {
+		if (!hasImports)
+			return;
+		
+		String imports = "import org.json.JSONException; import org.json.JSONObject;";
+		
+		if (isDatabase) {
+			imports += "import android.content.ContentValues; import android.database.Cursor;"
+					+ "import java.util.ArrayList;";
+		}
+		
+		out.append(imports);
+		
+		for (String name : extraImports) {
+			if (!imports.contains("import " + name + ";"))
+				out.append("import ").append(name).append(';');
+		}
 	}
 	
 	/**
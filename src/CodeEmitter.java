@@ -0,0 +1,139 @@
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+
+/**
+ * <p>
+ * Growable buffer where every part of the generated class is appended, so the output
+ * is built in linear time no matter how many fields the class has.
+ * </p>
+ * <p>
+ * When it is created with a Writer, the buffer is flushed to it every time it gets big enough,
+ * so the full class is never kept in memory.
+ * </p>
+ * 
+ * @author Lucas De Morais Cabrales
+ * @since 2026-10-17
+ */
+public class CodeEmitter {
+	
+	/**
+	 * Size of the buffer that triggers a flush to the Writer.
+	 */
+	private static final int FLUSH_SIZE = 8192;
+	
+	/**
+	 * Buffered output.
+	 */
+	private final StringBuilder buffer = new StringBuilder(FLUSH_SIZE);
+	/**
+	 * Destination of the output, null when it is kept in memory.
+	 */
+	private final Writer writer;
+	/**
+	 * Amount of characters already written to the Writer.
+	 */
+	private long flushed;
+	
+	/**
+	 * Constructor of the class, the whole output is kept in memory.
+	 */
+	public CodeEmitter() {
+		this.writer = null;
+	}
+	
+	/**
+	 * Constructor of the class, the output is streamed to a Writer.
+	 * 
+	 * @param writer destination of the output.
+	 */
+	public CodeEmitter(Writer writer) {
+		this.writer = writer;
+	}
+	
+	/**
+	 * Appends a piece of code.
+	 * 
+	 * @param code code in plain text.
+	 * @return this emitter.
+	 * @throws UncheckedIOException if the Writer fails.
+	 */
+	public CodeEmitter append(String code) {
+		buffer.append(code);
+		flushIfFull();
+		return this;
+	}
+	
+	/**
+	 * Appends a single character.
+	 * 
+	 * @param ch character to append.
+	 * @return this emitter.
+	 * @throws UncheckedIOException if the Writer fails.
+	 */
+	public CodeEmitter append(char ch) {
+		buffer.append(ch);
+		flushIfFull();
+		return this;
+	}
+	
+	/**
+	 * Appends a number.
+	 * 
+	 * @param value number to append.
+	 * @return this emitter.
+	 * @throws UncheckedIOException if the Writer fails.
+	 */
+	public CodeEmitter append(long value) {
+		buffer.append(value);
+		flushIfFull();
+		return this;
+	}
+	
+	/**
+	 * Writes the buffered output to the Writer once it reaches {@link #FLUSH_SIZE}.
+	 * 
+	 * @throws UncheckedIOException if the Writer fails.
+	 */
+	private void flushIfFull() {
+		if (writer != null && buffer.length() >= FLUSH_SIZE)
+			flush();
+	}
+	
+	/**
+	 * Writes the buffered output to the Writer, if there's one.
+	 * 
+	 * @throws UncheckedIOException if the Writer fails.
+	 */
+	public void flush() {
+		if (writer == null)
+			return;
+		
+		try {
+			writer.append(buffer);
+			flushed += buffer.length();
+			buffer.setLength(0);
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+	
+	/**
+	 * Retrieves the amount of characters appended so far, including the ones written to the Writer.
+	 * 
+	 * @return Length of the output.
+	 */
+	public long getLength() {
+		return flushed + buffer.length();
+	}
+	
+	/**
+	 * Retrieves the output kept in memory.
+	 * 
+	 * @return Output in plain text.
+	 */
+	@Override
+	public String toString() {
+		return buffer.toString();
+	}
+}
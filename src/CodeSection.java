@@ -0,0 +1,15 @@
+/**
+ * Part of the generated class that appends its code to the output when the class is assembled.
+ * 
+ * @author Lucas De Morais Cabrales
+ * @since 2026-10-17
+ */
+public interface CodeSection {
+	
+	/**
+	 * Appends the code of the section.
+	 * 
+	 * @param out output of the generated class.
+	 */
+	void emit(CodeEmitter out);
+}
@@ -1,4 +1,5 @@
 import java.util.ArrayList;
+import java.util.EnumSet;
 
 /**
  * Provides the needed database definitions in plain text from the provided class variables.
@@ -16,6 +17,26 @@ public class DatabaseGenerator {
 	 * List of class variables.
 	 */
 	private ArrayList<Variable> variables;
+	/**
+	 * Class variables stored as columns of the table (every variable but nested objects and arrays).
+	 */
+	private ArrayList<Variable> columns;
+	/**
+	 * Class variables stored in their own child table (nested objects and arrays of objects).
+	 */
+	private ArrayList<Variable> children;
+	/**
+	 * Whether the table belongs to a nested object, stored with the rowid of its parent row.
+	 */
+	private boolean isChild;
+	/**
+	 * Maximum amount of objects kept by the LRU cache of getObjById(), or 0 when there is no cache.
+	 */
+	private int cacheSize;
+	/**
+	 * Whether to generate the columnar container, read-only arrays of every column.
+	 */
+	private boolean isColumnar;
 	
 	/**
 	 * Constructor of the class.
@@ -26,6 +47,37 @@ public class DatabaseGenerator {
 	public DatabaseGenerator(String className, ArrayList<Variable> variables) {
 		this.className = className;
 		this.variables = variables;
+		this.columns = new ArrayList<>();
+		this.children = new ArrayList<>();
+		
+		for (Variable v : variables) {
+			if (v.hasChildClass())
+				children.add(v);
+			else if (!v.getType().isContainer())
+				columns.add(v); //arrays of plain values are not persisted
+		}
+		
+		for (Variable v : columns)
+			v.setDBName(getVariableDBName(v.getName()));
+	}
+	
+	/**
+	 * Sets whether the table belongs to a nested object, stored with the rowid of its parent row.
+	 * 
+	 * @param isChild true for the class of a nested object.
+	 */
+	public void setChild(boolean isChild) {
+		this.isChild = isChild;
+	}
+	
+	/**
+	 * Sets whether to generate the columnar container, getColumns() reads the whole table into one array 
+	 * per column instead of one object per row. Only generated for the tables that aren't nested objects.
+	 * 
+	 * @param isColumnar true to generate the columnar container.
+	 */
+	public void setColumnar(boolean isColumnar) {
+		this.isColumnar = isColumnar;
 	}
 	
 	/**
@@ -35,37 +87,83 @@ public class DatabaseGenerator {
 	 * @return Database constants in plain text.
 	 */
 	public String getTableDefinition() {
-		return "public static final String KEY = \"" + className + "Key\";"
-				+ "public static final String TABLE_NAME = \"" + className.toLowerCase() + "\";"
-				+ "public static final String TABLE = \"create table \" + TABLE_NAME + \n"
-				+ getVariablesDefinition();
+		CodeEmitter out = new CodeEmitter();
+		writeTableDefinition(out);
+		return out.toString();
 	}
 	
 	/**
-	 * Retrieves the database variable definitions for the create table command.
+	 * Appends the database headers containing the required constants for the DB creation, 
+	 * including the command to create the table in SQLite.
+	 * 
+	 * @param out output of the generated class.
+	 */
+	public void writeTableDefinition(CodeEmitter out) {
+		writeTableDefinition(out, "", "");
+	}
+	
+	/**
+	 * Appends the database headers containing the required constants for the DB creation, 
+	 * including the command to create the table in SQLite, with the id column as its primary key 
+	 * and the indexes backing the lookups of the generated methods.
 	 * 
-	 * @return Database variables in plain text.
+	 * @param out output of the generated class.
+	 * @param idFieldName JSON field name for the entity ID, if empty, the table has no primary key.
+	 * @param filterFieldName JSON field name of the getObj() filter, if empty, it is not indexed.
 	 */
-	private String getVariablesDefinition() {
-		Variable first = variables.get(0);
-		first.setDBName(getVariableDBName(first.getName()));
-		String vDefinition = "\"(" + first.getDBName()
-			+ " " + getVariableDBType(first.getType()) + ",\" + \n";
+	public void writeTableDefinition(CodeEmitter out, String idFieldName, String filterFieldName) {
+		Metrics.Sample sample = Metrics.start(Metrics.Stage.DATABASE);
 		
-		for (int i = 1; i < variables.size() - 1; i++) {
-			Variable v = variables.get(i);
-			
-			v.setDBName(getVariableDBName(v.getName()));
-			vDefinition +=  "\"" + v.getDBName() + " " + getVariableDBType(v.getType()) + ",\" +";
-			vDefinition += "\n";
+		out.append("public static final String KEY = \"").append(className).append("Key\";")
+			.append("public static final String TABLE_NAME = \"").append(className.toLowerCase()).append("\";")
+			.append("public static final String TABLE = \"create table \" + TABLE_NAME + \n");
+		writeVariablesDefinition(out, getIdColumn(idFieldName));
+		
+		ArrayList<String> indexes = new ArrayList<>();
+		if (isChild) {
+			//children are always loaded by the rowid of their parent.
+			indexes.add("\"create index if not exists \" + TABLE_NAME + \"_parent_id on \" + TABLE_NAME + \"(parent_id)\"");
 		}
 		
-		Variable last = variables.get(variables.size() - 1);
-		last.setDBName(getVariableDBName(last.getName()));
-		vDefinition += "\"" + last.getDBName()
-		+ " " + getVariableDBType(last.getType()) + ")\";";
+		Variable filter = getFilterColumn(filterFieldName);
+		if (filter != null) {
+			//same collation as the getObj() lookup, otherwise SQLite can't use the index.
+			indexes.add("\"create index if not exists \" + TABLE_NAME + \"_" + filter.getDBName() + " on \" + TABLE_NAME + \"(" 
+					+ filter.getDBName() + " COLLATE NOCASE)\"");
+		}
+		
+		if (!indexes.isEmpty())
+			out.append("public static final String[] INDEXES = { ").append(String.join(", ", indexes)).append(" };");
+		
+		Metrics.stop(sample);
+	}
+	
+	/**
+	 * Appends the database variable definitions for the create table command.
+	 * 
+	 * @param out output of the generated class.
+	 * @param id id column, declared as the primary key, or null if the table has no id.
+	 */
+	private void writeVariablesDefinition(CodeEmitter out, Variable id) {
+		ArrayList<String> definitions = new ArrayList<>();
+		
+		for (Variable v : columns)
+			definitions.add(v.getDBName() + " " + getVariableDBType(v.getType()) + (v == id ? " primary key" : ""));
 		
-		return vDefinition;
+		if (isChild)
+			definitions.add("parent_id integer");
+		
+		int last = definitions.size() - 1;
+		for (int i = 0; i <= last; i++) {
+			out.append(i == 0 ? "\"(" : "\"").append(definitions.get(i));
+			
+			if (i == last)
+				out.append(")\";");
+			else if (i == 0)
+				out.append(",\" + \n");
+			else
+				out.append(",\" +\n");
+		}
 	}
 	
 	/**
@@ -117,6 +215,7 @@ public class DatabaseGenerator {
 		
 		switch(type) {
 			case STRING:
+			case ENUM:
 				return "text";
 			case DOUBLE: 
 				return "float";
@@ -135,91 +234,534 @@ public class DatabaseGenerator {
 	 * @return All of the database methods in plain text.
 	 */
 	public String getMethodsDefinition(boolean isMaster, String idFieldName, String filterFieldName) {
-		String getObjByIdMethod = isMaster ? getGetObjByIdMethod(idFieldName) : "";
-		String getNameListMethod = isMaster ? getGetNameListMethod() : "";
+		return getMethodsDefinition(isMaster, idFieldName, filterFieldName, 0);
+	}
+	
+	/**
+	 * Retrieves the compilation of every database method in plain text, with an LRU cache of the objects
+	 * returned by getObjById().
+	 * 
+	 * @param isMaster whether to include specific methods for a master/form entity
+	 * @param JSON field name for the entity ID, if empty, takes the first field as the ID
+	 * @param cacheSize maximum amount of cached objects, or 0 to disable the cache.
+	 * @return All of the database methods in plain text.
+	 */
+	public String getMethodsDefinition(boolean isMaster, String idFieldName, String filterFieldName, int cacheSize) {
+		CodeEmitter out = new CodeEmitter();
+		writeMethodsDefinition(out, isMaster, idFieldName, filterFieldName, cacheSize);
+		return out.toString();
+	}
+	
+	/**
+	 * Appends the compilation of every database method.
+	 * 
+	 * @param out output of the generated class.
+	 * @param isMaster whether to include specific methods for a master/form entity
+	 * @param JSON field name for the entity ID, if empty, takes the first field as the ID
+	 */
+	public void writeMethodsDefinition(CodeEmitter out, boolean isMaster, String idFieldName, String filterFieldName) {
+		writeMethodsDefinition(out, isMaster, idFieldName, filterFieldName, 0);
+	}
+	
+	/**
+	 * Appends the compilation of every database method, with an LRU cache of the objects returned by 
+	 * getObjById(). The cache is only generated for master entities with an id column.
+	 * 
+	 * @param out output of the generated class.
+	 * @param isMaster whether to include specific methods for a master/form entity
+	 * @param JSON field name for the entity ID, if empty, takes the first field as the ID
+	 * @param cacheSize maximum amount of cached objects, or 0 to disable the cache.
+	 */
+	public void writeMethodsDefinition(CodeEmitter out, boolean isMaster, String idFieldName, String filterFieldName, 
+			int cacheSize) {
+		Metrics.Sample sample = Metrics.start(Metrics.Stage.DATABASE);
+		Variable id = getIdColumn(idFieldName);
+		this.cacheSize = isMaster && !isChild && id != null ? cacheSize : 0;
+		
+		out.append("\n//region Database\n");
+		writeRowMethods(out);
+		out.append(" ");
+		
+		if (this.cacheSize > 0) {
+			writeCacheDefinition(out);
+			out.append(" ");
+		}
+		
+		if (isChild) {
+			//nested objects are only stored and loaded through their parent.
+			writeAddChildObjMethod(out);
+			out.append(" ");
+			writeGetGroupedByParentMethod(out);
+			out.append(" ");
+			writeDeleteByParentMethod(out);
+			out.append(" ");
+			writeIsEmptyMethod(out);
+			out.append(" ");
+			writeDeleteTableMethod(out);
+			out.append("\n\t//endregion\n\n");
+			Metrics.stop(sample);
+			return;
+		}
 		
-		return "\n//region Database\n" + getAddObjMethod() + " " + getGetObjMethod(filterFieldName) + " " + getObjByIdMethod
-				+ getGetListMethod() + " " + getNameListMethod + getIsEmptyMethod() + " "
-				+ getDeleteTableMethod() + "\n\t//endregion\n\n";
+		writeAddObjMethod(out, id);
+		out.append(" ");
+		writeAddAllMethod(out, id);
+		out.append(" ");
+		writeGetObjMethod(out, filterFieldName);
+		out.append(" ");
+		
+		if (isMaster)
+			writeGetObjByIdMethod(out, idFieldName);
+		
+		writeGetListMethod(out);
+		out.append(" ");
+		writeProjectedMethods(out, id);
+		out.append(" ");
+		
+		if (isColumnar) {
+			writeColumnarDefinition(out);
+			out.append(" ");
+		}
+		
+		if (isMaster)
+			writeGetNameListMethod(out);
+		
+		writeIsEmptyMethod(out);
+		out.append(" ");
+		writeCountMethods(out, isMaster ? id : null, getFilterColumn(filterFieldName));
+		out.append(" ");
+		writeDeleteTableMethod(out);
+		out.append("\n\t//endregion\n\n");
+		Metrics.stop(sample);
+	}
+	
+	/**
+	 * Appends the simple addObj() method. When the table has an id column, the row with the same id is 
+	 * replaced, and its nested objects are deleted first. The row and its nested objects are written 
+	 * in a single transaction.
+	 * 
+	 * @param out output of the generated class.
+	 * @param id id column, or null if the table has no id.
+	 */
+	private void writeAddObjMethod(CodeEmitter out, Variable id) {
+		out.append("public static void addObj(").append(className).append(" obj) { ");
+		
+		out.append("try { ");
+		
+		//started inside the try, so that endCacheWrite() always runs once it is raised.
+		if (cacheSize > 0)
+			out.append("beginCacheWrite(); ");
+		
+		if (!children.isEmpty())
+			out.append("SQLiteDatabase db = StorageManager.getDb(); db.beginTransaction(); try { ");
+		
+		out.append("ContentValues values = new ContentValues();");
+		writeVariablesAddObjDefinition(out);
+		
+		if (id != null)
+			writeChildrenDeleteDefinition(out, id);
+		
+		writeInsertDefinition(out, id != null);
+		
+		if (!children.isEmpty())
+			out.append("db.setTransactionSuccessful(); } finally { db.endTransaction(); } ");
+		
+		out.append("} catch (Exception e) { Debug.error(TAG, e); }");
+		
+		//the cached object is only dropped once the new row is committed.
+		if (cacheSize > 0)
+			out.append(" finally { endCacheWrite(String.valueOf(obj.id)); }");
+		
+		out.append(" }");
 	}
 	
 	/**
-	 * Retrieves the simple addObj() method in plain text.
+	 * Appends the CACHE constant, an android.util.LruCache of the objects returned by getObjById() keyed by 
+	 * their id (LruCache is thread-safe), and its hit/miss counters used to size it. 
 	 * 
-	 * @return addObj() in plain text.
+	 * Writers call beginCacheWrite() before touching the table and endCacheWrite() once it's committed, 
+	 * which bumps CACHE_VERSION and drops the written object. Readers only cache an object through 
+	 * putCached() when no write is in flight and the version didn't change since their query started, 
+	 * and check it again after the put, so a row read before a write is never cached after it. 
+	 * 
+	 * @param out output of the generated class.
 	 */
-	private String getAddObjMethod() {
-		return "public static void addObj(" + className + " obj) { try { "
-				+ "ContentValues values = new ContentValues();" + getVariablesAddObjDefinition()
-				+ "StorageManager.getDb().insert(TABLE_NAME, \"\", values);" 
-				+ "} catch (Exception e) { Debug.error(TAG, e); } }";
+	private void writeCacheDefinition(CodeEmitter out) {
+		out.append("private static final LruCache<String, ").append(className).append("> CACHE = new LruCache<>(")
+			.append(cacheSize).append("); ")
+			.append("private static final AtomicInteger CACHE_WRITES = new AtomicInteger(); ")
+			.append("private static final AtomicInteger CACHE_VERSION = new AtomicInteger(); ")
+			.append("public static int getCacheHitCount() { return CACHE.hitCount(); } ")
+			.append("public static int getCacheMissCount() { return CACHE.missCount(); } ")
+			.append("private static void beginCacheWrite() { CACHE_WRITES.incrementAndGet(); } ")
+			.append("private static void endCacheWrite(String id) { CACHE_VERSION.incrementAndGet(); ")
+			.append("if (id == null) CACHE.evictAll(); else CACHE.remove(id); CACHE_WRITES.decrementAndGet(); } ")
+			.append("private static void putCached(").append(className).append(" obj, int version) { ")
+			.append("String key = String.valueOf(obj.id); ")
+			.append("if (CACHE_WRITES.get() == 0 && CACHE_VERSION.get() == version) { CACHE.put(key, obj); ")
+			.append("if (CACHE_WRITES.get() != 0 || CACHE_VERSION.get() != version) CACHE.remove(key); } }");
 	}
 	
 	/**
-	 * Retrieves the lines of code regarding the addition of the column values using ContentValues.
+	 * Appends the addObj() method of a nested object, stored with the rowid of its parent row.
 	 * 
-	 * @return Lines of code in plain text.
+	 * @param out output of the generated class.
 	 */
-	private String getVariablesAddObjDefinition() {
-		String vDefinition = "";
+	private void writeAddChildObjMethod(CodeEmitter out) {
+		out.append("public static void addObj(").append(className).append(" obj, long parentId) { try { ")
+			.append("ContentValues values = new ContentValues();");
+		writeVariablesAddObjDefinition(out);
+		out.append("values.put(\"parent_id\", parentId);");
+		writeInsertDefinition(out, false);
+		out.append("} catch (Exception e) { Debug.error(TAG, e); } }");
+	}
+	
+	/**
+	 * Appends the insertion of the row, followed by the rows of its nested objects 
+	 * which are stored with the rowid of the new row. The nested objects are skipped when
+	 * the row can't be inserted.
+	 * 
+	 * @param out output of the generated class.
+	 * @param isReplace whether the row replaces the one with the same id.
+	 */
+	private void writeInsertDefinition(CodeEmitter out, boolean isReplace) {
+		String insert = "StorageManager.getDb()." + (isReplace ? "replace" : "insert") + "(TABLE_NAME, \"\", values);";
 		
-		for (Variable v : variables) {
-			vDefinition += "values.put(\"" + v.getDBName() + "\", obj." + v.getName() + ");";
+		if (children.isEmpty()) {
+			out.append(insert);
+			return;
+		}
+		
+		out.append("long rowId = ").append(insert).append("if (rowId != -1) {");
+		writeChildrenAddDefinition(out);
+		out.append("}");
+	}
+	
+	/**
+	 * Appends the deletion of the nested objects of the row with the same id as the object, they are 
+	 * selected through the id before the row is replaced.
+	 * 
+	 * @param out output of the generated class.
+	 * @param id id column.
+	 */
+	private void writeChildrenDeleteDefinition(CodeEmitter out, Variable id) {
+		for (Variable v : children) {
+			out.append(v.getChildClassName()).append(".deleteByParent(\"select rowid from \" + TABLE_NAME + \" where ")
+				.append(id.getDBName()).append(" = ?\", new String[] { String.valueOf(obj.").append(id.getName()).append(") });");
+		}
+	}
+	
+	/**
+	 * Appends the insertion of the nested objects of the new row, stored with its rowid.
+	 * 
+	 * @param out output of the generated class.
+	 */
+	private void writeChildrenAddDefinition(CodeEmitter out) {
+		for (Variable v : children) {
+			out.append("if (obj.").append(v.getName()).append(" != null) ");
+			
+			if (v.isChildArray()) {
+				out.append("for (").append(v.getChildClassName()).append(" item : obj.").append(v.getName()).append(") ")
+					.append(v.getChildClassName()).append(".addObj(item, rowId);");
+			} else
+				out.append(v.getChildClassName()).append(".addObj(obj.").append(v.getName()).append(", rowId);");
+		}
+	}
+	
+	/**
+	 * Appends the addAll(List) methods, which insert every object with a single precompiled statement 
+	 * inside a transaction committed every chunkSize rows, instead of a ContentValues and an implicit 
+	 * transaction per object. When the table has an id column, replaceAll(List) deletes the rows with 
+	 * the same id (and their nested objects) before inserting them. A row that can't be inserted (e.g. an 
+	 * id that already exists, with addAll()) is logged and skipped with its nested objects, the rest of 
+	 * the list is still inserted. Both methods return the amount of inserted rows, a chunk that fails as 
+	 * a whole is rolled back and isn't counted. A chunkSize of 0 or less inserts the whole list in a 
+	 * single transaction.
+	 * 
+	 * @param out output of the generated class.
+	 * @param id id column, or null if the table has no id.
+	 */
+	private void writeAddAllMethod(CodeEmitter out, Variable id) {
+		String list = "List<" + className + "> list";
+		
+		out.append("public static int addAll(").append(list).append(") { return addAll(list, 500); } ")
+			.append("public static int addAll(").append(list).append(", int chunkSize) { return insertAll(list, chunkSize, false); } ");
+		
+		if (id != null) {
+			out.append("public static int replaceAll(").append(list).append(") { return replaceAll(list, 500); } ")
+				.append("public static int replaceAll(").append(list).append(", int chunkSize) { return insertAll(list, chunkSize, true); } ");
+		}
+		
+		writeBindRowMethod(out);
+		out.append("private static int insertAll(").append(list).append(", int chunkSize, boolean replace) { ")
+			.append("SQLiteStatement insert = null;");
+		
+		if (id != null)
+			out.append("SQLiteStatement delete = null;");
+		
+		out.append("int inserted = 0; try { ");
+		
+		if (cacheSize > 0)
+			out.append("beginCacheWrite(); ");
+		
+		out.append("SQLiteDatabase db = StorageManager.getDb(); db.beginTransaction(); try { ")
+			.append("insert = db.compileStatement(\"insert into \" + TABLE_NAME + \" (");
+		
+		for (int i = 0; i < columns.size(); i++)
+			out.append(i == 0 ? "" : ", ").append(columns.get(i).getDBName());
+		
+		out.append(") values (");
+		
+		for (int i = 0; i < columns.size(); i++)
+			out.append(i == 0 ? "?" : ", ?");
+		
+		out.append(")\");");
+		
+		if (id != null) {
+			out.append("delete = db.compileStatement(\"delete from \" + TABLE_NAME + \" where ")
+				.append(id.getDBName()).append(" = ?\");");
+		}
+		
+		//a failing row only skips itself, the rows of the chunk before and after it are kept.
+		out.append("int count = 0, pending = 0; for (").append(className).append(" obj : list) { try {");
+		
+		if (id != null) {
+			out.append("if (replace) { delete.clearBindings();");
+			writeBindDefinition(out, "delete", 1, id);
+			
+			writeChildrenDeleteDefinition(out, id);
+			out.append("delete.executeUpdateDelete(); } ");
+		}
+		
+		out.append("insert.clearBindings(); bindRow(insert, obj);");
+		
+		if (children.isEmpty())
+			out.append("insert.executeInsert();");
+		else {
+			out.append("long rowId = insert.executeInsert();");
+			writeChildrenAddDefinition(out);
+		}
+		
+		out.append(" pending++; } catch (SQLException e) { Debug.error(TAG, e); } ")
+			.append("if (chunkSize > 0 && ++count % chunkSize == 0) { db.setTransactionSuccessful(); db.endTransaction(); inserted += pending; ")
+			.append("pending = 0; db.beginTransaction(); } }")
+			.append(" db.setTransactionSuccessful(); inserted += pending; } finally { db.endTransaction(); } ")
+			.append("} catch (Exception e) { Debug.error(TAG, e); } finally { if (insert != null) insert.close();");
+		
+		if (id != null)
+			out.append(" if (delete != null) delete.close();");
+		
+		if (cacheSize > 0)
+			out.append(" endCacheWrite(null);");
+		
+		out.append(" } return inserted; }");
+	}
+	
+	/**
+	 * Appends the binding of a column value to a compiled statement, by index.
+	 * 
+	 * @param out output of the generated class.
+	 * @param statement name of the statement.
+	 * @param index index of the parameter, starting at 1.
+	 * @param v class variable.
+	 */
+	private void writeBindDefinition(CodeEmitter out, String statement, int index, Variable v) {
+		//enums are stored as their JSON value, which doesn't change when constants are added.
+		String value = v.getType() == ValueType.ENUM ? "obj.get" + v.getEnumValueAccessor() + "()" : "obj." + v.getName();
+		
+		if (!v.isPrimitive()) {
+			//boxed values go through the bind() overloads, which bind null values as NULL.
+			out.append("bind(").append(statement).append(", ").append(index).append(", ").append(value).append(");");
+			return;
+		}
+		
+		if (v.hasPresenceBit()) {
+			out.append("if ((obj.").append(v.getPresenceField()).append(" & ").append(v.getPresenceMask()).append(") == 0) ")
+				.append(statement).append(".bindNull(").append(index).append("); else ");
+		}
+		
+		out.append(statement);
+		switch (v.getType()) {
+			case STRING:
+				out.append(".bindString(").append(index).append(", ").append(value).append(");");
+				break;
+			case DOUBLE:
+				out.append(".bindDouble(").append(index).append(", ").append(value).append(");");
+				break;
+			case BOOLEAN:
+				out.append(".bindLong(").append(index).append(", ").append(value).append(" ? 1 : 0);");
+				break;
+			default:
+				out.append(".bindLong(").append(index).append(", ").append(value).append(");");
+		}
+	}
+	
+	/**
+	 * Appends the bindRow() method, binding every column of an object to the insert statement by index, 
+	 * followed by the bind() overloads of the boxed column types.
+	 * 
+	 * @param out output of the generated class.
+	 */
+	private void writeBindRowMethod(CodeEmitter out) {
+		EnumSet<ValueType> boxed = EnumSet.noneOf(ValueType.class);
+		
+		out.append("private static void bindRow(SQLiteStatement insert, ").append(className).append(" obj) {");
+		for (int i = 0; i < columns.size(); i++) {
+			Variable v = columns.get(i);
+			writeBindDefinition(out, "insert", i + 1, v);
+			
+			if (!v.isPrimitive())
+				boxed.add(v.getType() == ValueType.LONG ? ValueType.INTEGER : v.getType() == ValueType.ENUM ? ValueType.STRING : v.getType());
+		}
+		out.append(" } ");
+		
+		for (ValueType type : boxed) {
+			String bind;
+			switch (type) {
+				case STRING:
+					bind = "bindString(index, value)";
+					break;
+				case DOUBLE:
+					bind = "bindDouble(index, value)";
+					break;
+				case BOOLEAN:
+					bind = "bindLong(index, value ? 1 : 0)";
+					break;
+				default:
+					bind = "bindLong(index, value.longValue())";
+			}
+			
+			//Integer and Long share the Number overload, enums are bound by their String value.
+			out.append("private static void bind(SQLiteStatement statement, int index, ")
+				.append(type == ValueType.INTEGER ? "Number" : type.getName()).append(" value) { ")
+				.append("if (value == null) statement.bindNull(index); else statement.").append(bind).append("; } ");
+		}
+	}
+	
+	/**
+	 * Retrieves the column of the getObj() filter.
+	 * 
+	 * @param filterFieldName JSON field name of the filter.
+	 * @return filter column, or null if there is none.
+	 */
+	private Variable getFilterColumn(String filterFieldName) {
+		if (filterFieldName.length() > 0) {
+			String name = getVariableDBName(JSONParser.getVariableName(filterFieldName));
+			for (Variable v : columns) {
+				if (v.getDBName().equals(name))
+					return v;
+			}
+		}
+		
+		return null;
+	}
+	
+	/**
+	 * Retrieves the id column, only when a custom entity ID was set up.
+	 * 
+	 * @param idFieldName JSON field name for the entity ID.
+	 * @return id column, or null if there is none.
+	 */
+	private Variable getIdColumn(String idFieldName) {
+		if (idFieldName.length() > 0) {
+			for (Variable v : columns) {
+				if (v.getName().equals("id"))
+					return v;
+			}
 		}
 		
-		return vDefinition;
+		return null;
 	}
 	
 	/**
-	 * Retrieves the simple getObj(String) in plain text with a whereClause if specified.
+	 * Appends the lines of code regarding the addition of the column values using ContentValues.
+	 * 
+	 * @param out output of the generated class.
+	 */
+	private void writeVariablesAddObjDefinition(CodeEmitter out) {
+		for (Variable v : columns) {
+			if (v.hasPresenceBit()) {
+				//nullable primitive, stored as NULL when it has no value.
+				out.append("if ((obj.").append(v.getPresenceField()).append(" & ").append(v.getPresenceMask())
+					.append(") != 0) ");
+			}
+			
+			if (v.getType() == ValueType.ENUM) {
+				//enums are stored as their JSON value.
+				out.append("values.put(\"").append(v.getDBName()).append("\", obj.get").append(v.getEnumValueAccessor()).append("());");
+				continue;
+			}
+			
+			out.append("values.put(\"").append(v.getDBName()).append("\", obj.").append(v.getName()).append(");");
+			
+			if (v.hasPresenceBit())
+				out.append(" else values.putNull(\"").append(v.getDBName()).append("\");");
+		}
+	}
+	
+	/**
+	 * Appends the simple getObj(String) with a whereClause if specified.
 	 * Only works for String fields.
 	 * 
+	 * @param out output of the generated class.
 	 * @param fieldName name of the field regarding the whereClause (optional).
-	 * @return getObj(String) in plain text if a whereClause has been specified.
 	 */
-	private String getGetObjMethod(String fieldName) {
+	private void writeGetObjMethod(CodeEmitter out, String fieldName) {
 		String todoWhereClause = "\n\t//TODO add whereClause\n";
 		String whereClause = "";
 		String methodParam = "";
+		String args = "null";
 				
 		if (fieldName.length() > 0) {
 			Variable var = new Variable(ValueType.STRING, JSONParser.getVariableName(fieldName));
 			var.setDBName(getVariableDBName(var.getName()));
 			
 			todoWhereClause = "";
-			whereClause = "+\" where " + var.getDBName() + "='\" + " + var.getName() + "+ \"' COLLATE NOCASE\"";
+			whereClause = " where " + var.getDBName() + " = ? COLLATE NOCASE";
 			methodParam = var.getType().getName() + " " + var.getName();
+			args = "new String[] { " + var.getName() + " }";
 		}
 		
-		return "public static " + className + " getObj(" + methodParam + ") { " + todoWhereClause
-				+ className + " obj = new " + className + "(); try { "
-				+ "String query = \"select * from \" + TABLE_NAME" + whereClause + ";"
-				+ "Cursor c = StorageManager.getDb().rawQuery(query, null);"
-				+ "c.moveToFirst();"
-				+ "if (c.getCount() > 0) {" + getVariablesSelectDefinition() + " } c.close(); }"
-				+ "catch (Exception e) { Debug.error(TAG, e); } return obj; }";
-	}
-	
-	/**
-	 * Retrieves the getObj() definition in plain text without a whereClause specified.
-	 * 
-	 * @return getObj() in plain text.
-	 */
-	private String getGetObjMethod() {
-		return getGetObjMethod("");
+		out.append("public static ").append(className).append(" getObj(").append(methodParam).append(") { ");
+		
+		if (cacheSize > 0)
+			out.append("int version = CACHE_VERSION.get(); ");
+		
+		out.append(todoWhereClause).append(className).append(" obj = new ").append(className).append("(); try { ")
+			.append("String query = \"select ").append(getSelectColumns()).append(" from \" + TABLE_NAME + \"")
+			.append(whereClause).append(" limit 1\";")
+			.append("Cursor c = StorageManager.getDb().rawQuery(query, ").append(args).append(");")
+			.append("c.moveToFirst();")
+			.append("if (c.getCount() > 0) {");
+		writeColumnIndexesDefinition(out);
+		out.append("obj = readRow(c, index);");
+		
+		if (!children.isEmpty()) {
+			writeRowIdDefinition(out);
+			writeChildrenGroupsDefinition(out, "String.valueOf(rowId)");
+			writeChildrenAttachDefinition(out);
+		}
+		
+		//only cached once the nested objects are attached, a failing query skips it.
+		if (cacheSize > 0)
+			out.append("putCached(obj, version);");
+		
+		out.append(" } c.close(); }")
+			.append("catch (Exception e) { Debug.error(TAG, e); } return obj; }");
 	}
 	
 	/**
-	 * Retrieves the getObjById(String) method definition in plain text.
+	 * Appends the getObjById(String) method definition.
 	 * Only works for the id field
 	 * 
+	 * @param out output of the generated class.
 	 * @param idFieldName JSON field name for the entity ID, if empty, takes the first field as the ID
-	 * @return
 	 */
-	private String getGetObjByIdMethod(String idFieldName) {
+	private void writeGetObjByIdMethod(CodeEmitter out, String idFieldName) {
 		String todoWhereClause = "\n\t//TODO add whereClause\n";
 		String whereClause = "";
-		String methodParam = "";	
+		String methodParam = "";
+		String args = "null";
 		
 		if (idFieldName.length() > 0) {
 			
@@ -228,49 +770,135 @@ public class DatabaseGenerator {
 			var.setDBName("id"); 	
 			
 			todoWhereClause ="";
-			whereClause = "+\" where " + var.getDBName() + "='\" + " + var.getName() + "+ \"' COLLATE NOCASE\"";
+			whereClause = " where " + var.getDBName() + " = ?"; //looked up through the primary key
 			methodParam = var.getType().getName() + " " + var.getName();
+			args = "new String[] { " + var.getName() + " }";
+		}
+		
+		out.append("public static ").append(className).append(" getObjById(").append(methodParam).append(") { ");
+		
+		if (cacheSize > 0) {
+			out.append(className).append(" cached = id == null ? null : CACHE.get(id);")
+				.append("if (cached != null) return cached; int version = CACHE_VERSION.get(); ");
+		}
+		
+		out.append(todoWhereClause).append(className).append(" obj = new ").append(className).append("(); try { ")
+			.append("String query = \"select ").append(getSelectColumns()).append(" from \" + TABLE_NAME + \"")
+			.append(whereClause).append(" limit 1\";")
+			.append("Cursor c = StorageManager.getDb().rawQuery(query, ").append(args).append(");")
+			.append("c.moveToFirst();")
+			.append("if (c.getCount() > 0) {");
+		writeColumnIndexesDefinition(out);
+		out.append("obj = readRow(c, index);");
+		
+		if (!children.isEmpty()) {
+			writeRowIdDefinition(out);
+			writeChildrenGroupsDefinition(out, "String.valueOf(rowId)");
+			writeChildrenAttachDefinition(out);
 		}
 		
-		return "public static " + className + " getObjById(" + methodParam + ") { " + todoWhereClause
-				+ className + " obj = new " + className + "(); try { "
-				+ "String query = \"select * from \" + TABLE_NAME" + whereClause + ";"
-				+ "Cursor c = StorageManager.getDb().rawQuery(query, null);"
-				+ "c.moveToFirst();"
-				+ "if (c.getCount() > 0) {" + getVariablesSelectDefinition() + " } c.close(); }"
-				+ "catch (Exception e) { Debug.error(TAG, e); } return obj; }";
+		//only cached once the nested objects are attached, a failing query skips it.
+		if (cacheSize > 0)
+			out.append("putCached(obj, version);");
+		
+		out.append(" } c.close(); }")
+			.append("catch (Exception e) { Debug.error(TAG, e); } return obj; }");
 	}
 	
 	/**
-	 * Retrieves the getNameList(ArrayList<?>) method in plain text with the specified class.
+	 * Appends the getNameList(ArrayList<?>) method with the specified class.
 	 * 
-	 * @return getNameList(ArrayList<?>) method in plain text.
+	 * @param out output of the generated class.
 	 */
-	private String getGetNameListMethod() {
-		return "public static ArrayList<String> getNameList(ArrayList<" + className +"> list) {" +
-				"ArrayList<String> nameList = new ArrayList<>(); for (" + className + " obj : list) {" + 
-				"nameList.add(obj.description);}return nameList;}";
+	private void writeGetNameListMethod(CodeEmitter out) {
+		out.append("public static ArrayList<String> getNameList(ArrayList<").append(className).append("> list) {")
+			.append("ArrayList<String> nameList = new ArrayList<>(); for (").append(className).append(" obj : list) {")
+			.append("nameList.add(obj.").append(isEnum("description") ? "getDescriptionValue()" : "description")
+			.append(");}return nameList;}");
 	}
 	
 	/**
-	 * Retrieves the lines of code regarding the query of the SQLite columns according to their column type.
+	 * Whether a column is a low-cardinality string generated as an enum.
 	 * 
-	 * @return Lines of code in plain text.
+	 * @param name Java variable name.
+	 * @return true if the column is an enum.
 	 */
-	private String getVariablesSelectDefinition() {
-		String vDefinition = "";
+	private boolean isEnum(String name) {
+		for (Variable v : columns) {
+			if (v.getName().equals(name))
+				return v.getType() == ValueType.ENUM;
+		}
 		
-		for (Variable v : variables) {
-			vDefinition += "obj." + v.getName() + " = c." + getVariablesSelectType(v.getType()) 
-			+ "(c.getColumnIndex(\"" + v.getDBName() + "\"))";
+		return false;
+	}
+	
+	/**
+	 * Appends the column indexes of the cursor, resolved once before reading its rows.
+	 * 
+	 * @param out output of the generated class.
+	 */
+	private void writeColumnIndexesDefinition(CodeEmitter out) {
+		out.append("int[] index = getColumnIndexes(c);");
+		
+		if (!children.isEmpty())
+			out.append("int rowIdIndex = c.getColumnIndex(\"_row_id\");");
+	}
+	
+	/**
+	 * Appends the methods shared by every query: the COLUMNS constant, getColumnIndexes() which resolves 
+	 * the index of every column once per cursor, and readRow() which reads the current row of a cursor 
+	 * with those indexes. Columns missing from the cursor (index -1) are skipped, so that the same reader 
+	 * serves the queries of only some of the columns.
+	 * 
+	 * @param out output of the generated class.
+	 */
+	private void writeRowMethods(CodeEmitter out) {
+		out.append("private static final String[] COLUMNS = { ");
+		for (int i = 0; i < columns.size(); i++)
+			out.append(i == 0 ? "\"" : ", \"").append(columns.get(i).getDBName()).append("\"");
+		
+		out.append(" }; private static int[] getColumnIndexes(Cursor c) { int[] index = new int[COLUMNS.length];")
+			.append(" for (int i = 0; i < index.length; i++) index[i] = c.getColumnIndex(COLUMNS[i]); return index; } ")
+			.append("private static ").append(className).append(" readRow(Cursor c, int[] index) { ")
+			.append(className).append(" obj = new ").append(className).append("();");
+		writeVariablesSelectDefinition(out);
+		out.append(" return obj; }");
+	}
+	
+	/**
+	 * Appends the lines of code regarding the query of the SQLite columns according to their column type.
+	 * 
+	 * @param out output of the generated class.
+	 */
+	private void writeVariablesSelectDefinition(CodeEmitter out) {
+		for (int i = 0; i < columns.size(); i++) {
+			Variable v = columns.get(i);
+			String index = "index[" + i + "]";
+			
+			if (v.hasPresenceBit()) {
+				//nullable primitive, only assigned and marked as present when the column is not NULL.
+				out.append("if (").append(index).append(" >= 0 && !c.isNull(").append(index).append(")) { obj.")
+					.append(v.getPresenceField()).append(" |= ").append(v.getPresenceMask()).append(";");
+			} else
+				out.append("if (").append(index).append(" >= 0) ");
+			
+			if (v.getType() == ValueType.ENUM) {
+				out.append("obj.set").append(v.getEnumValueAccessor()).append("(c.isNull(").append(index).append(") ? null : c.getString(")
+					.append(index).append("));");
+				continue;
+			}
+			
+			out.append("obj.").append(v.getName()).append(" = c.").append(getVariablesSelectType(v.getType()))
+				.append("(").append(index).append(")");
 			
 			if (v.getType().equals(ValueType.BOOLEAN))
-				vDefinition += " > 0";
+				out.append(" > 0");
+			
+			out.append(";");
 			
-			vDefinition += ";";
+			if (v.hasPresenceBit())
+				out.append(" }");
 		}
-		
-		return vDefinition;
 	}
 	
 	/**
@@ -286,6 +914,8 @@ public class DatabaseGenerator {
 				return "getString";
 			case DOUBLE: 
 				return "getDouble";
+			case LONG:
+				return "getLong";
 			case BOOLEAN:
 			case INTEGER:
 			default:
@@ -294,43 +924,466 @@ public class DatabaseGenerator {
 	}
 	
 	/**
-	 * Retrieves the getList() method definition in plain text.
+	 * Appends the getList() method definition.
+	 * 
+	 * @param out output of the generated class.
+	 */
+	private void writeGetListMethod(CodeEmitter out) {
+		out.append("public static ArrayList<").append(className).append("> getList() {")
+			.append("ArrayList<").append(className).append("> list = new ArrayList<>(); try { ")
+			.append("String query = \"select ").append(getSelectColumns()).append(" from \" + TABLE_NAME;");
+		//one query per nesting level, whatever the amount of rows.
+		writeChildrenGroupsDefinition(out, "\"select rowid from \" + TABLE_NAME");
+		out.append("Cursor c = StorageManager.getDb().rawQuery(query, null);")
+			.append("list.ensureCapacity(c.getCount());");
+		//column indexes are resolved once per cursor instead of once per cell.
+		writeColumnIndexesDefinition(out);
+		out.append("c.moveToFirst();")
+			.append("while (!c.isAfterLast()) {").append(className).append(" obj = readRow(c, index);");
+		
+		if (!children.isEmpty()) {
+			writeRowIdDefinition(out);
+			writeChildrenAttachDefinition(out);
+		}
+		
+		out.append(" list.add(obj); c.moveToNext(); }")
+			.append("c.close(); }")
+			.append("catch (Exception e) { Debug.error(TAG, e); } return list; }");
+	}
+	
+	/**
+	 * Appends the methods reading only some of the columns (all of them when the columns are null) without 
+	 * loading the whole table: getList(String[]), forEach() which hands every row to a callback as soon as 
+	 * it is read, and getPage() which reads the rows following the given id (keyset pagination), only 
+	 * when the table has an id. Nested objects are not loaded by these methods.
+	 * 
+	 * @param out output of the generated class.
+	 * @param id id column, or null if the table has no id.
+	 */
+	private void writeProjectedMethods(CodeEmitter out, Variable id) {
+		String all = "null, null, null, null, null";
+		
+		out.append("public interface RowCallback { void onRow(").append(className).append(" obj); } ")
+			.append("public static void forEach(RowCallback callback) { forEach(null, callback); } ")
+			.append("public static void forEach(String[] columns, RowCallback callback) { try { ")
+			.append("Cursor c = StorageManager.getDb().query(TABLE_NAME, columns, ").append(all).append(");");
+		writeProjectedLoopDefinition(out, "callback.onRow(obj);");
+		out.append("c.close(); } catch (Exception e) { Debug.error(TAG, e); } } ");
+		
+		out.append("public static ArrayList<").append(className).append("> getList(String[] columns) {")
+			.append("ArrayList<").append(className).append("> list = new ArrayList<>(); try { ")
+			.append("Cursor c = StorageManager.getDb().query(TABLE_NAME, columns, ").append(all).append(");")
+			.append("list.ensureCapacity(c.getCount());");
+		writeProjectedLoopDefinition(out, "list.add(obj);");
+		out.append("c.close(); } catch (Exception e) { Debug.error(TAG, e); } return list; }");
+		
+		if (id == null)
+			return;
+		
+		String idType = id.getType().getName(); //boxed, the first page is requested with null
+		out.append(" public static ArrayList<").append(className).append("> getPage(").append(idType)
+			.append(" afterId, int limit) { return getPage(afterId, limit, null); } ")
+			.append("public static ArrayList<").append(className).append("> getPage(").append(idType)
+			.append(" afterId, int limit, String[] columns) {")
+			.append("ArrayList<").append(className).append("> list = new ArrayList<>(limit); try { ")
+			.append("String selection = afterId == null ? null : \"").append(id.getDBName()).append(" > ?\";")
+			.append("String[] args = afterId == null ? null : new String[] { String.valueOf(afterId) };")
+			.append("Cursor c = StorageManager.getDb().query(TABLE_NAME, columns, selection, args, null, null, \"")
+			.append(id.getDBName()).append("\", String.valueOf(limit));");
+		writeProjectedLoopDefinition(out, "list.add(obj);");
+		out.append("c.close(); } catch (Exception e) { Debug.error(TAG, e); } return list; }");
+	}
+	
+	/**
+	 * <p>
+	 * Appends the columnar container (struct of arrays) of the table and the getColumns() methods filling it 
+	 * straight from the cursor, for large read-only tables:
+	 * </p>
+	 * <ul>
+	 * <li>One array per column: int[], long[], double[], String[], a long[] bitset for booleans and the 
+	 * ordinals of enums in a byte[] (short[] for more than 127 constants, -1 for null). The ordinals only 
+	 * live in memory, the column holds the JSON value, and the values that weren't in the samples are 
+	 * kept in a String[] allocated with the first one.</li>
+	 * <li>A null bitset for the nullable numeric and boolean columns.</li>
+	 * <li>A Row flyweight which reads any position without allocating, and get() which creates the object 
+	 * of a position.</li>
+	 * </ul>
+	 * <p>
+	 * Nested objects are not loaded. The arrays are public for fast scans over a single column, but read-only.
+	 * </p>
+	 * 
+	 * @param out output of the generated class.
+	 */
+	private void writeColumnarDefinition(CodeEmitter out) {
+		out.append("public static Columns getColumns() { return getColumns(null, null); } ")
+			.append("public static Columns getColumns(String selection, String[] selectionArgs) { Columns columns = null; try { ")
+			.append("Cursor c = StorageManager.getDb().query(TABLE_NAME, COLUMNS, selection, selectionArgs, null, null, null);")
+			.append("columns = new Columns(c); c.close(); } catch (Exception e) { Debug.error(TAG, e); } ")
+			.append("return columns; } ");
+		
+		out.append("public static final class Columns { private final int rowCount;");
+		for (Variable v : columns) {
+			out.append("public final ").append(getColumnArrayType(v)).append(" ").append(v.getName()).append(";");
+			
+			if (hasNullBitset(v))
+				out.append("private final long[] ").append(v.getName()).append("Nulls;");
+			
+			if (v.getType() == ValueType.ENUM)
+				out.append("private String[] ").append(v.getEnumUnknownField()).append(";");
+		}
+		
+		//filled straight from the cursor, row by row.
+		out.append(" private Columns(Cursor c) { this.rowCount = c.getCount(); int bitsetLength = (rowCount + 63) >>> 6;");
+		for (Variable v : columns) {
+			String type = getColumnArrayType(v);
+			boolean isBitset = v.getType() == ValueType.BOOLEAN;
+			
+			out.append("this.").append(v.getName()).append(" = new ").append(type.substring(0, type.length() - 2))
+				.append(isBitset ? "[bitsetLength];" : "[rowCount];");
+			
+			if (hasNullBitset(v))
+				out.append("this.").append(v.getName()).append("Nulls = new long[bitsetLength];");
+		}
+		
+		out.append("int[] index = getColumnIndexes(c); c.moveToFirst(); for (int i = 0; i < rowCount; i++) {");
+		for (int i = 0; i < columns.size(); i++)
+			writeColumnReadDefinition(out, columns.get(i), "index[" + i + "]");
+		out.append(" c.moveToNext(); } } ");
+		
+		out.append("public int size() { return rowCount; } ")
+			.append("public Row getRow(int position) { return new Row().moveTo(position); } ")
+			.append("public ").append(className).append(" get(int position) { ").append(className)
+			.append(" obj = new ").append(className).append("(); Row row = getRow(position);");
+		for (Variable v : columns)
+			writeColumnObjectDefinition(out, v);
+		out.append(" return obj; } ");
+		
+		//flyweight, a single instance can be moved through every row.
+		out.append("public final class Row { private int position; ")
+			.append("public Row moveTo(int position) { if (position < 0 || position >= rowCount) ")
+			.append("throw new IndexOutOfBoundsException(\"Position \" + position + \", size \" + rowCount); ")
+			.append("this.position = position; return this; } ")
+			.append("public int getPosition() { return position; } ");
+		for (Variable v : columns)
+			writeColumnAccessorDefinition(out, v);
+		out.append("} }");
+	}
+	
+	/**
+	 * Retrieves the array type of a column in the columnar container.
+	 * 
+	 * @param v column.
+	 * @return Java array type in plain text.
+	 */
+	private String getColumnArrayType(Variable v) {
+		
+		switch (v.getType()) {
+			case STRING:
+				return "String[]";
+			case DOUBLE:
+				return "double[]";
+			case LONG:
+			case BOOLEAN:
+				return "long[]";
+			case ENUM:
+				//the constants of the samples and UNKNOWN.
+				return v.getEnumValues().size() + 1 <= Byte.MAX_VALUE ? "byte[]" : "short[]";
+			case INTEGER:
+			default:
+				return "int[]";
+		}
+	}
+	
+	/**
+	 * Whether a column of the columnar container needs a bitset of its null values, Strings and enums 
+	 * have their own null value.
+	 * 
+	 * @param v column.
+	 * @return true for the nullable numeric and boolean columns.
+	 */
+	private boolean hasNullBitset(Variable v) {
+		return v.isNullable() && v.getType() != ValueType.STRING && v.getType() != ValueType.ENUM;
+	}
+	
+	/**
+	 * Appends the line of code filling a column of the columnar container from the current row of the cursor.
+	 * 
+	 * @param out output of the generated class.
+	 * @param v column.
+	 * @param index index of the column in the cursor, in plain text.
+	 */
+	private void writeColumnReadDefinition(CodeEmitter out, Variable v, String index) {
+		String column = "this." + v.getName();
+		out.append("if (").append(index).append(" >= 0) ");
+		
+		if (hasNullBitset(v)) {
+			out.append("if (c.isNull(").append(index).append(")) ").append(column).append("Nulls[i >>> 6] |= 1L << i; else ");
+		}
+		
+		switch (v.getType()) {
+			case BOOLEAN:
+				out.append("if (c.getInt(").append(index).append(") > 0) ").append(column).append("[i >>> 6] |= 1L << i;");
+				break;
+			case ENUM:
+				String type = getColumnArrayType(v).startsWith("byte") ? "byte" : "short";
+				String unknown = "this." + v.getEnumUnknownField();
+				
+				out.append("if (c.isNull(").append(index).append(")) ").append(column).append("[i] = -1; else { String value = c.getString(")
+					.append(index).append("); ").append(v.getEnumName()).append(" constant = ").append(v.getEnumName())
+					.append(".fromValue(value); ").append(column).append("[i] = (").append(type).append(") constant.ordinal(); ")
+					.append("if (constant == ").append(v.getEnumName()).append(".UNKNOWN) { if (").append(unknown).append(" == null) ")
+					.append(unknown).append(" = new String[rowCount]; ").append(unknown).append("[i] = value; } }");
+				break;
+			default:
+				out.append(column).append("[i] = c.").append(getVariablesSelectType(v.getType())).append("(")
+					.append(index).append(");");
+		}
+	}
+	
+	/**
+	 * Appends the line of code copying a column of a position of the columnar container into its object.
+	 * 
+	 * @param out output of the generated class.
+	 * @param v column.
+	 */
+	private void writeColumnObjectDefinition(CodeEmitter out, Variable v) {
+		String getter = "row.get" + JSONParser.getPascalCase(v.getName()) + "()";
+		
+		if (v.getType() == ValueType.ENUM) {
+			out.append("obj.set").append(v.getEnumValueAccessor()).append("(row.get").append(v.getEnumValueAccessor()).append("());");
+			return;
+		}
+		
+		if (!hasNullBitset(v)) {
+			out.append("obj.").append(v.getName()).append(" = ").append(getter).append(";");
+			return;
+		}
+		
+		out.append("if (row.has").append(JSONParser.getPascalCase(v.getName())).append("()) { obj.")
+			.append(v.getName()).append(" = ").append(getter).append(";");
+		
+		if (v.hasPresenceBit())
+			out.append("obj.").append(v.getPresenceField()).append(" |= ").append(v.getPresenceMask()).append(";");
+		
+		out.append(" }");
+		
+		if (!v.isPrimitive())
+			out.append(" else obj.").append(v.getName()).append(" = null;");
+	}
+	
+	/**
+	 * Appends the accessors of a column to the Row flyweight: get&lt;Column&gt;(), get&lt;Column&gt;Value() 
+	 * for the enums, and has&lt;Column&gt;() for the columns with a null bitset.
+	 * 
+	 * @param out output of the generated class.
+	 * @param v column.
+	 */
+	private void writeColumnAccessorDefinition(CodeEmitter out, Variable v) {
+		String suffix = JSONParser.getPascalCase(v.getName());
+		String column = "Columns.this." + v.getName();
+		
+		switch (v.getType()) {
+			case BOOLEAN:
+				out.append("public boolean get").append(suffix).append("() { return (").append(column)
+					.append("[position >>> 6] & (1L << position)) != 0; } ");
+				break;
+			case ENUM:
+				String unknown = "Columns.this." + v.getEnumUnknownField();
+				
+				out.append("public ").append(v.getEnumName()).append(" get").append(suffix).append("() { return ")
+					.append(v.getEnumName()).append(".fromOrdinal(").append(column).append("[position]); } ")
+					.append("public String get").append(v.getEnumValueAccessor()).append("() { ").append(v.getEnumName())
+					.append(" constant = get").append(suffix).append("(); return constant == ").append(v.getEnumName())
+					.append(".UNKNOWN ? ").append(unknown).append("[position] : constant == null ? null : constant.value; } ");
+				break;
+			default:
+				out.append("public ").append(v.getType() == ValueType.STRING ? "String" : v.getType().getPrimitiveName())
+					.append(" get").append(suffix).append("() { return ").append(column).append("[position]; } ");
+		}
+		
+		if (hasNullBitset(v)) {
+			out.append("public boolean has").append(suffix).append("() { return (").append(column)
+				.append("Nulls[position >>> 6] & (1L << position)) == 0; } ");
+		}
+	}
+	
+	/**
+	 * Appends the loop reading every row of a cursor holding some of the columns.
+	 * 
+	 * @param out output of the generated class.
+	 * @param statement statement run with every object read.
+	 */
+	private void writeProjectedLoopDefinition(CodeEmitter out, String statement) {
+		out.append("int[] index = getColumnIndexes(c);")
+			.append("c.moveToFirst();")
+			.append("while (!c.isAfterLast()) {").append(className).append(" obj = readRow(c, index);")
+			.append(" ").append(statement).append(" c.moveToNext(); }");
+	}
+	
+	/**
+	 * Appends the getGroupedByParent(String) method of a nested object, loading every row whose parent
+	 * is selected by the given query, grouped by the rowid of the parent.
+	 * 
+	 * @param out output of the generated class.
+	 */
+	private void writeGetGroupedByParentMethod(CodeEmitter out) {
+		out.append("public static HashMap<Long, ArrayList<").append(className).append(">> getGroupedByParent(String parentQuery) {")
+			.append("HashMap<Long, ArrayList<").append(className).append(">> groups = new HashMap<>(); try { ")
+			.append("String rows = \" from \" + TABLE_NAME + \" where parent_id in (\" + parentQuery + \")\";")
+			.append("String query = \"select ").append(getSelectColumns()).append("\" + rows + \" order by rowid\";");
+		writeChildrenGroupsDefinition(out, "\"select rowid\" + rows");
+		out.append("Cursor c = StorageManager.getDb().rawQuery(query, null);");
+		writeColumnIndexesDefinition(out);
+		out.append("int parentIdIndex = c.getColumnIndex(\"parent_id\");")
+			.append("c.moveToFirst();")
+			.append("while (!c.isAfterLast()) {").append(className).append(" obj = readRow(c, index);");
+		
+		if (!children.isEmpty()) {
+			writeRowIdDefinition(out);
+			writeChildrenAttachDefinition(out);
+		}
+		
+		out.append("long parentId = c.getLong(parentIdIndex);")
+			.append("ArrayList<").append(className).append("> group = groups.get(parentId);")
+			.append("if (group == null) { group = new ArrayList<>(); groups.put(parentId, group); }")
+			.append(" group.add(obj); c.moveToNext(); }")
+			.append("c.close(); }")
+			.append("catch (Exception e) { Debug.error(TAG, e); } return groups; }");
+	}
+	
+	/**
+	 * Appends the deleteByParent(String, String[]) method of a nested object, deleting every row 
+	 * (and its own nested objects) whose parent is selected by the given query.
+	 * 
+	 * @param out output of the generated class.
+	 */
+	private void writeDeleteByParentMethod(CodeEmitter out) {
+		out.append("public static void deleteByParent(String parentQuery, String[] args) { try {");
+		
+		for (Variable v : children) {
+			out.append(v.getChildClassName()).append(".deleteByParent(\"select rowid from \" + TABLE_NAME + ")
+				.append("\" where parent_id in (\" + parentQuery + \")\", args);");
+		}
+		
+		out.append("StorageManager.getDb().delete(TABLE_NAME, \"parent_id in (\" + parentQuery + \")\", args);")
+			.append("} catch (Exception e) { Debug.error(TAG, e); } }");
+	}
+	
+	/**
+	 * Retrieves the selected columns, including the rowid when nested objects are loaded afterwards.
+	 * 
+	 * @return selected columns in plain text.
+	 */
+	private String getSelectColumns() {
+		return children.isEmpty() ? "*" : "rowid as _row_id, *";
+	}
+	
+	/**
+	 * Appends the rowid of the current row, used to attach the nested objects.
+	 * 
+	 * @param out output of the generated class.
+	 */
+	private void writeRowIdDefinition(CodeEmitter out) {
+		out.append("long rowId = c.getLong(rowIdIndex);");
+	}
+	
+	/**
+	 * Appends the loading of the nested objects whose parents are selected by the given query, 
+	 * with a single query per child table.
+	 * 
+	 * @param out output of the generated class.
+	 * @param parentQuery Java expression of the query selecting the rowids of the parents.
+	 */
+	private void writeChildrenGroupsDefinition(CodeEmitter out, String parentQuery) {
+		for (Variable v : children) {
+			out.append("HashMap<Long, ArrayList<").append(v.getChildClassName()).append(">> ").append(v.getName())
+				.append("Groups = ").append(v.getChildClassName()).append(".getGroupedByParent(").append(parentQuery).append(");");
+		}
+	}
+	
+	/**
+	 * Appends the assignment of the nested objects of the current row.
+	 * 
+	 * @param out output of the generated class.
+	 */
+	private void writeChildrenAttachDefinition(CodeEmitter out) {
+		for (Variable v : children) {
+			String groups = v.getName() + "Groups";
+			
+			out.append("obj.").append(v.getName()).append(" = ").append(groups).append(".containsKey(rowId) ? ")
+				.append(groups).append(".get(rowId)");
+			
+			if (v.isChildArray())
+				out.append(" : new ArrayList<").append(v.getChildClassName()).append(">();");
+			else
+				out.append(".get(0) : null;");
+		}
+	}
+	
+	/**
+	 * Appends a simple isEmpty() method definition.
 	 * 
-	 * @return getList() in plain text.
+	 * @param out output of the generated class.
 	 */
-	private String getGetListMethod() {
-		return "public static ArrayList<" + className + "> getList() {" 
-				+ "ArrayList<" + className +"> list = new ArrayList<>(); try { "
-				+ "String query = \"select * from \" + TABLE_NAME;"
-				+ "Cursor c = StorageManager.getDb().rawQuery(query, null);"
-				+ "c.moveToFirst();"
-				+ "while (!c.isAfterLast()) {" + className + " obj = new " + className + "();" 
-				+ getVariablesSelectDefinition() + " list.add(obj); c.moveToNext(); }"
-				+ "c.close(); }"
-				+ "catch (Exception e) { Debug.error(TAG, e); } return list; }";
+	private void writeIsEmptyMethod(CodeEmitter out) {
+		out.append(" public static boolean isEmpty() { ")
+			.append("String query = \"select count(*) from \" + TABLE_NAME;")
+			.append("int count; try { Cursor c = StorageManager.getDb().rawQuery(query, null);")
+			.append("c.moveToFirst(); count = c.getInt(0); c.close();")
+			.append("} catch (Exception e) { count = 0; Debug.error(TAG, e); } return count == 0; }");
 	}
 	
 	/**
-	 * Retrieves a simple isEmpty() method definition is plain text.
+	 * Appends the count(), countBy[Filter]() and existsById() methods, which let SQLite count the rows 
+	 * (through the filter index and the primary key) without reading them into objects.
 	 * 
-	 * @return isEmpty() in plain text.
+	 * @param out output of the generated class.
+	 * @param id id column, or null if there is no getObjById().
+	 * @param filter filter column, or null if there is none.
 	 */
-	private String getIsEmptyMethod() {
-		return " public static boolean isEmpty() { "
-				+ "String query = \"select count(*) from \" + TABLE_NAME;"
-				+ "int count; try { Cursor c = StorageManager.getDb().rawQuery(query, null);"
-				+ "c.moveToFirst(); count = c.getInt(0); c.close();"
-				+ "} catch (Exception e) { count = 0; Debug.error(TAG, e); } return count == 0; }";
+	private void writeCountMethods(CodeEmitter out, Variable id, Variable filter) {
+		out.append("public static long count() { try { ")
+			.append("return DatabaseUtils.queryNumEntries(StorageManager.getDb(), TABLE_NAME);")
+			.append(" } catch (Exception e) { Debug.error(TAG, e); return 0; } }");
+		
+		if (filter != null) {
+			out.append(" public static long countBy").append(JSONParser.getPascalCase(filter.getName()))
+				.append("(String value) { try { ")
+				.append("return DatabaseUtils.queryNumEntries(StorageManager.getDb(), TABLE_NAME, \"")
+				.append(filter.getDBName()).append(" = ? COLLATE NOCASE\", new String[] { value });")
+				.append(" } catch (Exception e) { Debug.error(TAG, e); return 0; } }");
+		}
+		
+		if (id != null) {
+			out.append(" public static boolean existsById(String id) { boolean exists = false; try { ")
+				.append("Cursor c = StorageManager.getDb().rawQuery(\"select 1 from \" + TABLE_NAME + \" where ")
+				.append(id.getDBName()).append(" = ? limit 1\", new String[] { id });")
+				.append("exists = c.moveToFirst(); c.close();")
+				.append(" } catch (Exception e) { Debug.error(TAG, e); } return exists; }");
+		}
 	}
 	
 	/**
-	 * Retrieves a simple deleteTable() method definition in plain text.
+	 * Appends a simple deleteTable() method definition.
 	 * 
-	 * @return deleteTable() in plain text.
+	 * @param out output of the generated class.
 	 */
-	private String getDeleteTableMethod() {
-		return "public static void deleteTable() { try {"
-				+ "StorageManager.getDb().delete(TABLE_NAME, null, null);"
-				+ "} catch (Exception e) { Debug.error(TAG, e); } }";
+	private void writeDeleteTableMethod(CodeEmitter out) {
+		out.append("public static void deleteTable() { try { ");
+		
+		if (cacheSize > 0)
+			out.append("beginCacheWrite(); ");
+		
+		out.append("StorageManager.getDb().delete(TABLE_NAME, null, null);");
+		
+		for (Variable v : children)
+			out.append(v.getChildClassName()).append(".deleteTable();");
+		
+		out.append("} catch (Exception e) { Debug.error(TAG, e); }");
+		
+		if (cacheSize > 0)
+			out.append(" finally { endCacheWrite(null); }");
+		
+		out.append(" }");
 	}
 }
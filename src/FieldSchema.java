@@ -0,0 +1,349 @@
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Statistics of a single JSON field, merged from every sample where it was observed.
+ * 
+ * @author Lucas De Morais Cabrales
+ * @since 2026-10-17
+ */
+public class FieldSchema {
+	/**
+	 * Maximum amount of distinct string values tracked by a field, the values of fields with more
+	 * of them are no longer tracked.
+	 */
+	public static final int MAX_DISTINCT_VALUES = 256;
+	
+	/**
+	 * JSON field name.
+	 */
+	private String name;
+	/**
+	 * Amount of records containing the field.
+	 */
+	private long present;
+	/**
+	 * Amount of null values.
+	 */
+	private long nulls;
+	/**
+	 * Amount of string values.
+	 */
+	private long strings;
+	/**
+	 * Amount of integer values.
+	 */
+	private long integers;
+	/**
+	 * Amount of integer values that don't fit in an int.
+	 */
+	private long longs;
+	/**
+	 * Amount of floating point values.
+	 */
+	private long doubles;
+	/**
+	 * Amount of boolean values.
+	 */
+	private long booleans;
+	/**
+	 * Amount of object values.
+	 */
+	private long objects;
+	/**
+	 * Amount of array values.
+	 */
+	private long arrays;
+	/**
+	 * Merged schema of the object values, null until an object is observed.
+	 */
+	private Schema children;
+	/**
+	 * Merged schema of the objects inside of the array values, null until one is observed.
+	 */
+	private Schema elements;
+	/**
+	 * Statistics of the values inside of the array values that are not objects, null until one is observed.
+	 */
+	private FieldSchema elementValues;
+	/**
+	 * Distinct string values, null until one is observed or after there are too many of them.
+	 */
+	private Set<String> distinctValues;
+	/**
+	 * Whether the field had more than {@link #MAX_DISTINCT_VALUES} distinct string values.
+	 */
+	private boolean isHighCardinality;
+	
+	/**
+	 * Constructor of the class.
+	 * 
+	 * @param name JSON field name.
+	 */
+	public FieldSchema(String name) {
+		this.name = name;
+	}
+	
+	/**
+	 * Records a value of the field.
+	 * 
+	 * @param token token of the value, BEGIN_OBJECT or BEGIN_ARRAY for containers.
+	 */
+	public void observe(JSONToken token) {
+		observe(token, false);
+	}
+	
+	/**
+	 * Records a value of the field.
+	 * 
+	 * @param token token of the value, BEGIN_OBJECT or BEGIN_ARRAY for containers.
+	 * @param isLong whether the value is an integer that doesn't fit in an int.
+	 */
+	public void observe(JSONToken token, boolean isLong) {
+		present++;
+		
+		if (isLong)
+			longs++;
+		
+		switch(token) {
+			case NULL:
+				nulls++;
+				break;
+			case STRING:
+				strings++;
+				break;
+			case INTEGER:
+				integers++;
+				break;
+			case DOUBLE:
+				doubles++;
+				break;
+			case TRUE:
+			case FALSE:
+				booleans++;
+				break;
+			case BEGIN_OBJECT:
+				objects++;
+				break;
+			default:
+				arrays++;
+		}
+	}
+	
+	/**
+	 * Records the text of a string value, it only keeps the distinct values until there are too many.
+	 * 
+	 * @param value text of the value.
+	 */
+	public void observeValue(String value) {
+		if (isHighCardinality)
+			return;
+		
+		if (distinctValues == null)
+			distinctValues = new HashSet<>();
+		
+		distinctValues.add(value);
+		
+		if (distinctValues.size() > MAX_DISTINCT_VALUES) {
+			isHighCardinality = true;
+			distinctValues = null;
+		}
+	}
+	
+	/**
+	 * Whether the distinct string values are still tracked, they aren't once there are too many.
+	 * 
+	 * @return true if the next string values have to be recorded by {@link #observeValue(String)}.
+	 */
+	public boolean isTrackingValues() {
+		return !isHighCardinality;
+	}
+	
+	/**
+	 * Adds the statistics of the same field observed in other samples.
+	 * 
+	 * @param other statistics of the same field.
+	 */
+	public void merge(FieldSchema other) {
+		present += other.present;
+		nulls += other.nulls;
+		strings += other.strings;
+		integers += other.integers;
+		longs += other.longs;
+		doubles += other.doubles;
+		booleans += other.booleans;
+		objects += other.objects;
+		arrays += other.arrays;
+		
+		if (other.children != null)
+			getChildren().merge(other.children);
+		if (other.elements != null)
+			getElements().merge(other.elements);
+		if (other.elementValues != null)
+			getElementValues().merge(other.elementValues);
+		
+		if (other.isHighCardinality) {
+			isHighCardinality = true;
+			distinctValues = null;
+		} else if (other.distinctValues != null) {
+			for (String value : other.distinctValues)
+				observeValue(value);
+		}
+	}
+	
+	/**
+	 * Retrieves the merged schema of the object values, where their fields are recorded.
+	 * 
+	 * @return Schema of the nested object.
+	 */
+	public Schema getChildren() {
+		if (children == null)
+			children = new Schema();
+		
+		return children;
+	}
+	
+	/**
+	 * Retrieves the merged schema of the objects inside of the array values.
+	 * 
+	 * @return Schema of the array elements.
+	 */
+	public Schema getElements() {
+		if (elements == null)
+			elements = new Schema();
+		
+		return elements;
+	}
+	
+	/**
+	 * Retrieves the statistics of the values inside of the array values that are not objects.
+	 * 
+	 * @return Statistics of the array elements.
+	 */
+	public FieldSchema getElementValues() {
+		if (elementValues == null)
+			elementValues = new FieldSchema(name);
+		
+		return elementValues;
+	}
+	
+	/**
+	 * Whether the array values only contain objects (or nulls), they are generated as a child class.
+	 * 
+	 * @return true if the field is an array of objects.
+	 */
+	public boolean isObjectArray() {
+		return elements != null && elements.getRecords() > 0 
+				&& (elementValues == null || elementValues.present == elementValues.nulls);
+	}
+	
+	/**
+	 * Retrieves the type of the values inside of an array that doesn't contain only objects.
+	 * 
+	 * @return The type of the array elements, String if they are mixed or nested arrays.
+	 */
+	public ValueType getElementType() {
+		ValueType type = elementValues == null ? ValueType.STRING : elementValues.getValueType();
+		return type == ValueType.OBJECT || type == ValueType.ARRAY ? ValueType.STRING : type;
+	}
+	
+	/**
+	 * <p>
+	 * Retrieves the type that fits every observed value:
+	 * </p>
+	 * <ul>
+	 * <li>Only objects = Object (a nested class)</li>
+	 * <li>Only arrays = Array</li>
+	 * <li>Objects or arrays mixed with anything else, only null values, or any string value = String</li>
+	 * <li>Only booleans = Boolean</li>
+	 * <li>Any floating point number among the numbers = Double (integers are widened)</li>
+	 * <li>Only integers = Integer, or Long if any of them doesn't fit in an int</li>
+	 * <li>Booleans mixed with numbers = String</li>
+	 * </ul>
+	 * 
+	 * @return The type of the variable in a ValueType value.
+	 */
+	public ValueType getValueType() {
+		long numbers = integers + doubles;
+		long scalars = strings + numbers + booleans;
+		
+		if (objects > 0 && scalars == 0 && arrays == 0) {
+			return ValueType.OBJECT;
+		} else if (arrays > 0 && scalars == 0 && objects == 0) {
+			return ValueType.ARRAY;
+		} else if (strings > 0 || objects > 0 || arrays > 0 || present == nulls) {
+			return ValueType.STRING;
+		} else if (booleans > 0) {
+			return numbers > 0 ? ValueType.STRING : ValueType.BOOLEAN;
+		} else if (doubles > 0) {
+			return ValueType.DOUBLE;
+		} else {
+			return longs > 0 ? ValueType.LONG : ValueType.INTEGER;
+		}
+	}
+	
+	/**
+	 * <p>
+	 * Whether the field is a string with only a handful of distinct values, e.g. a status or a currency
+	 * code, which can be generated as an enum:
+	 * </p>
+	 * <ul>
+	 * <li>Every value is a string (or null).</li>
+	 * <li>There are at most maxValues distinct values.</li>
+	 * <li>Every value was observed twice on average, so a single sample is never enough.</li>
+	 * </ul>
+	 * 
+	 * @param maxValues maximum amount of distinct values, up to {@link #MAX_DISTINCT_VALUES}.
+	 * @return true if the field has a low cardinality.
+	 */
+	public boolean isLowCardinality(int maxValues) {
+		return distinctValues != null && strings == present - nulls && distinctValues.size() <= maxValues
+				&& strings >= 2L * distinctValues.size();
+	}
+	
+	/**
+	 * Retrieves the distinct string values, in alphabetical order so that the same values always 
+	 * generate the same enum.
+	 * 
+	 * @return Distinct values, empty if they are not tracked.
+	 */
+	public List<String> getDistinctValues() {
+		List<String> values = distinctValues == null ? new ArrayList<>() : new ArrayList<>(distinctValues);
+		Collections.sort(values);
+		return values;
+	}
+	
+	/**
+	 * Whether the field was null at least once.
+	 * 
+	 * @return true if the field is nullable.
+	 */
+	public boolean isNullable() {
+		return nulls > 0;
+	}
+	
+	/**
+	 * Whether the field was missing from at least one record.
+	 * 
+	 * @param records amount of records observed.
+	 * @return true if the field is optional.
+	 */
+	public boolean isOptional(long records) {
+		return present < records;
+	}
+	
+	public String getName() {
+		return name;
+	}
+	
+	public long getPresent() {
+		return present;
+	}
+	
+	public long getNulls() {
+		return nulls;
+	}
+}
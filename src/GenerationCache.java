@@ -0,0 +1,295 @@
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * <p>
+ * Persistent cache of the batch generation, so that the classes whose sample and options didn't
+ * change are not generated again. Every class is stored with two SHA-256 keys:
+ * </p>
+ * <ul>
+ * <li>Input key: size and modification time of the sample, plus the options. When it matches,
+ * the class is skipped without reading the sample.</li>
+ * <li>Schema key: signature of the inferred schema, plus the options. When it matches, the sample
+ * changed but the generated classes would be the same, so they are not written again.</li>
+ * </ul>
+ * <p>
+ * Both keys include a hash of the generator classes, so every class is generated again after the
+ * generator is updated. The hash of every written file is stored as well, only the files whose
+ * content changed are replaced (e.g. a single nested class) and the files that are no longer
+ * generated are deleted.
+ * </p>
+ * <p>
+ * The cache is a text file, one class per line: <code>ClassName inputKey schemaKey file=hash...</code>
+ * </p>
+ * 
+ * @author Lucas De Morais Cabrales
+ * @since 2026-10-17
+ */
+public class GenerationCache {
+	
+	/**
+	 * Name of the cache file, stored in the output directory.
+	 */
+	public static final String FILE_NAME = ".jsonparser-cache";
+	/**
+	 * Classes whose code determines the generated classes.
+	 */
+	private static final Class<?>[] GENERATOR_CLASSES = { ModelGenerator.class, JSONParser.class,
+			DatabaseGenerator.class, BinaryGenerator.class, ClassCreator.class, CodeEmitter.class, Variable.class, 
+			ValueType.class, GeneratorOptions.class, Schema.class, FieldSchema.class };
+	
+	/**
+	 * Cache file.
+	 */
+	private Path file;
+	/**
+	 * Cached classes by class name.
+	 */
+	private Map<String, Entry> entries = new ConcurrentHashMap<>();
+	/**
+	 * Hash of the generator classes.
+	 */
+	private String generatorHash;
+	
+	/**
+	 * Constructor of the class, the cache starts empty.
+	 * 
+	 * @param file Cache file.
+	 */
+	public GenerationCache(Path file) {
+		this.file = file;
+		this.generatorHash = getGeneratorHash();
+	}
+	
+	/**
+	 * Reads the cache file, a missing or unreadable file is an empty cache.
+	 * 
+	 * @param file Cache file.
+	 * @return Cache with every class of the file.
+	 */
+	public static GenerationCache load(Path file) {
+		GenerationCache cache = new GenerationCache(file);
+		
+		if (!Files.exists(file))
+			return cache;
+		
+		try {
+			for (String line : Files.readAllLines(file, StandardCharsets.UTF_8)) {
+				String[] tokens = line.split(" ");
+				
+				if (tokens.length < 3)
+					continue;
+				
+				Entry entry = new Entry(tokens[1], tokens[2]);
+				for (int i = 3; i < tokens.length; i++) {
+					int separator = tokens[i].lastIndexOf('=');
+					entry.files.put(tokens[i].substring(0, separator), tokens[i].substring(separator + 1));
+				}
+				
+				cache.entries.put(tokens[0], entry);
+			}
+		} catch (IOException | RuntimeException e) {
+			//a damaged cache only means that every class is generated again.
+			cache.entries.clear();
+		}
+		
+		return cache;
+	}
+	
+	/**
+	 * Writes the cache file, replacing the previous one at once.
+	 * 
+	 * @throws IOException if the file can not be written.
+	 */
+	public void save() throws IOException {
+		Path temp = file.resolveSibling(file.getFileName() + ".tmp");
+		
+		try (Writer writer = Files.newBufferedWriter(temp, StandardCharsets.UTF_8)) {
+			for (Map.Entry<String, Entry> entry : new TreeMap<>(entries).entrySet()) {
+				writer.write(entry.getKey() + " " + entry.getValue().inputKey + " " + entry.getValue().schemaKey);
+				
+				for (Map.Entry<String, String> generated : entry.getValue().files.entrySet())
+					writer.write(" " + generated.getKey() + "=" + generated.getValue());
+				
+				writer.write('\n');
+			}
+		}
+		
+		Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING);
+	}
+	
+	/**
+	 * Retrieves a cached class.
+	 * 
+	 * @param className Name of the class.
+	 * @return Cached class, null if it is not cached.
+	 */
+	public Entry get(String className) {
+		return entries.get(className);
+	}
+	
+	/**
+	 * Caches a class, replacing the previous entry.
+	 * 
+	 * @param className Name of the class.
+	 * @param entry Cached class.
+	 */
+	public void put(String className, Entry entry) {
+		entries.put(className, entry);
+	}
+	
+	/**
+	 * Removes every class that is not in the list, e.g. the ones removed from the manifest.
+	 * 
+	 * @param classNames Names of the classes to keep.
+	 */
+	public void retain(List<String> classNames) {
+		entries.keySet().retainAll(classNames);
+	}
+	
+	/**
+	 * Retrieves the input key of a class, which doesn't need to read the sample.
+	 * 
+	 * @param sample Sample file of the class.
+	 * @param options Options of the class.
+	 * @return Input key.
+	 * @throws IOException if the attributes of the sample can not be read.
+	 */
+	public String getInputKey(Path sample, GeneratorOptions options) throws IOException {
+		return hash(generatorHash + "\n" + options.getSignature() + "\n" + sample.toAbsolutePath() + " "
+				+ Files.size(sample) + " " + Files.getLastModifiedTime(sample).toMillis());
+	}
+	
+	/**
+	 * Retrieves the schema key of a class.
+	 * 
+	 * @param schema Inferred schema of the class.
+	 * @param options Options of the class.
+	 * @return Schema key.
+	 */
+	public String getSchemaKey(Schema schema, GeneratorOptions options) {
+		return hash(generatorHash + "\n" + options.getSignature() + "\n" + schema.getSignature(options.getEnumValues(),
+				options.getIdFieldName(), options.getFilterFieldName()));
+	}
+	
+	/**
+	 * Retrieves a SHA-256 message digest.
+	 * 
+	 * @return New message digest.
+	 */
+	public static MessageDigest newDigest() {
+		try {
+			return MessageDigest.getInstance("SHA-256");
+		} catch (NoSuchAlgorithmException e) {
+			throw new IllegalStateException(e); //every JVM provides SHA-256.
+		}
+	}
+	
+	/**
+	 * Converts a digest into hexadecimal text.
+	 * 
+	 * @param digest bytes of the digest.
+	 * @return Digest in plain text.
+	 */
+	public static String toHex(byte[] digest) {
+		StringBuilder hex = new StringBuilder(digest.length * 2);
+		
+		for (byte b : digest)
+			hex.append(Character.forDigit((b >> 4) & 0xF, 16)).append(Character.forDigit(b & 0xF, 16));
+		
+		return hex.toString();
+	}
+	
+	/**
+	 * Hashes a text with SHA-256.
+	 * 
+	 * @param text text to hash.
+	 * @return Hash in hexadecimal text.
+	 */
+	private static String hash(String text) {
+		return toHex(newDigest().digest(text.getBytes(StandardCharsets.UTF_8)));
+	}
+	
+	/**
+	 * Hashes the bytecode of the generator classes.
+	 * 
+	 * @return Hash in hexadecimal text.
+	 */
+	private static String getGeneratorHash() {
+		MessageDigest digest = newDigest();
+		byte[] buffer = new byte[8192];
+		
+		for (Class<?> type : GENERATOR_CLASSES) {
+			digest.update(type.getName().getBytes(StandardCharsets.UTF_8));
+			
+			try (InputStream in = type.getResourceAsStream(type.getSimpleName() + ".class")) {
+				int read;
+				while (in != null && (read = in.read(buffer)) > 0)
+					digest.update(buffer, 0, read);
+			} catch (IOException e) {
+				//the name alone still identifies the class.
+			}
+		}
+		
+		return toHex(digest.digest());
+	}
+	
+	/**
+	 * Cached class: its keys and the hash of every file generated from it.
+	 */
+	public static class Entry {
+		
+		private final String inputKey;
+		private final String schemaKey;
+		private final Map<String, String> files = new LinkedHashMap<>();
+		
+		public Entry(String inputKey, String schemaKey) {
+			this.inputKey = inputKey;
+			this.schemaKey = schemaKey;
+		}
+		
+		public String getInputKey() {
+			return inputKey;
+		}
+		
+		public String getSchemaKey() {
+			return schemaKey;
+		}
+		
+		/**
+		 * Retrieves the hash of every generated file by file name.
+		 * 
+		 * @return Hashes of the files.
+		 */
+		public Map<String, String> getFiles() {
+			return files;
+		}
+		
+		/**
+		 * Whether every generated file still exists.
+		 * 
+		 * @param outputDir Directory of the generated files.
+		 * @return false if any file was deleted.
+		 */
+		public boolean isComplete(Path outputDir) {
+			for (String name : files.keySet()) {
+				if (!Files.exists(outputDir.resolve(name)))
+					return false;
+			}
+			
+			return !files.isEmpty();
+		}
+	}
+}
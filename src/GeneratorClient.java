@@ -0,0 +1,153 @@
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.net.ConnectException;
+import java.net.InetAddress;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.LinkedHashMap;
+import java.util.List;
+
+/**
+ * Thin client of the {@link GeneratorServer} daemon, it sends the absolute path of a sample and its
+ * options and receives the class definitions. The daemon runs on the same machine, so it reads the
+ * sample itself. The daemon is started in the background if it isn't running yet.
+ * 
+ * @author Lucas De Morais Cabrales
+ * @since 2026-10-17
+ */
+public class GeneratorClient {
+	
+	/**
+	 * How long the client waits for a new daemon to accept connections, in milliseconds.
+	 */
+	private static final long START_TIMEOUT = 10000;
+	
+	/**
+	 * Port of the daemon.
+	 */
+	private int port;
+	
+	/**
+	 * Constructor of the class.
+	 * 
+	 * @param port Port of the daemon.
+	 */
+	public GeneratorClient(int port) {
+		this.port = port;
+	}
+	
+	/**
+	 * Generates a class and its nested objects.
+	 * 
+	 * @param className Name of the Java class.
+	 * @param options Options in text form, as accepted by {@link GeneratorOptions#setOption(String)}.
+	 * @param sample File containing the JSON records of the class.
+	 * @return Class definitions in plain text by class name, the model being the first one.
+	 * @throws IOException if the sample doesn't exist, the daemon can not be reached or the generation failed.
+	 */
+	public LinkedHashMap<String, String> generate(String className, List<String> options, Path sample)
+			throws IOException {
+		if (!Files.isRegularFile(sample))
+			throw new IOException("Sample file not found: " + sample);
+		
+		try (Socket socket = connect(true);
+				DataOutputStream out = new DataOutputStream(new BufferedOutputStream(socket.getOutputStream()));
+				DataInputStream in = new DataInputStream(new BufferedInputStream(socket.getInputStream()))) {
+			out.writeUTF(GeneratorServer.GENERATE_FILE);
+			out.writeUTF(className + " " + String.join(" ", options));
+			out.writeUTF(sample.toAbsolutePath().toString());
+			out.flush();
+			
+			if (!in.readBoolean())
+				throw new IOException(in.readUTF());
+			
+			int count = in.readInt();
+			LinkedHashMap<String, String> classes = new LinkedHashMap<>();
+			
+			for (int i = 0; i < count; i++) {
+				String name = in.readUTF();
+				byte[] definition = new byte[in.readInt()];
+				in.readFully(definition);
+				classes.put(name, new String(definition, StandardCharsets.UTF_8));
+			}
+			
+			return classes;
+		}
+	}
+	
+	/**
+	 * Asks the daemon to stop once the requests in progress are served.
+	 * 
+	 * @return true if the daemon was running.
+	 * @throws IOException if the request can not be sent.
+	 */
+	public boolean stop() throws IOException {
+		try (Socket socket = connect(false);
+				DataOutputStream out = new DataOutputStream(socket.getOutputStream());
+				DataInputStream in = new DataInputStream(socket.getInputStream())) {
+			out.writeUTF(GeneratorServer.STOP);
+			out.flush();
+			return in.readBoolean();
+		} catch (ConnectException e) {
+			return false;
+		}
+	}
+	
+	/**
+	 * Connects to the daemon.
+	 * 
+	 * @param isStart whether the daemon is started if it isn't running.
+	 * @return Connection to the daemon.
+	 * @throws IOException if the daemon can not be reached.
+	 */
+	private Socket connect(boolean isStart) throws IOException {
+		try {
+			return new Socket(InetAddress.getLoopbackAddress(), port);
+		} catch (ConnectException e) {
+			if (!isStart)
+				throw e;
+		}
+		
+		startDaemon();
+		long deadline = System.currentTimeMillis() + START_TIMEOUT;
+		
+		while (true) {
+			try {
+				return new Socket(InetAddress.getLoopbackAddress(), port);
+			} catch (ConnectException e) {
+				if (System.currentTimeMillis() > deadline)
+					throw new IOException("The generator daemon didn't start on port " + port, e);
+			}
+			
+			try {
+				Thread.sleep(50);
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				throw new IOException("Interrupted while starting the generator daemon", e);
+			}
+		}
+	}
+	
+	/**
+	 * Starts the daemon in a new JVM, using the same Java installation and classpath as this one.
+	 * 
+	 * @throws IOException if the JVM can not be started.
+	 */
+	private void startDaemon() throws IOException {
+		String java = Paths.get(System.getProperty("java.home"), "bin", "java").toString();
+		
+		new ProcessBuilder(java, "-cp", System.getProperty("java.class.path"), "Main", "--daemon",
+				"--port", String.valueOf(port))
+			.redirectOutput(ProcessBuilder.Redirect.appendTo(new File(System.getProperty("java.io.tmpdir"),
+					"jsonparser-daemon.log")))
+			.redirectErrorStream(true)
+			.start();
+	}
+}
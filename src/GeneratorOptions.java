@@ -0,0 +1,255 @@
+/**
+ * POJO for the options of a single generated class.
+ * 
+ * @author Lucas De Morais Cabrales
+ * @since 2026-10-17
+ */
+public class GeneratorOptions {
+	/**
+	 * Name of the Java class.
+	 */
+	private String className;
+	/**
+	 * Whether to generate the database methods.
+	 */
+	private boolean isDatabase;
+	/**
+	 * Whether to include specific methods for a master/form entity.
+	 */
+	private boolean isMaster;
+	/**
+	 * JSON field name for the entity ID (optional).
+	 */
+	private String idFieldName = "";
+	/**
+	 * JSON field name for the getObj() whereClause (optional).
+	 */
+	private String filterFieldName = "";
+	/**
+	 * Whether to generate the fromJson(JsonReader) streaming parser as well.
+	 */
+	private boolean isJsonReader;
+	/**
+	 * Whether to use primitive types instead of boxed ones.
+	 */
+	private boolean isPrimitive;
+	/**
+	 * Whether to generate the listFromJson() methods even if the samples weren't arrays.
+	 */
+	private boolean isList;
+	/**
+	 * Maximum amount of objects kept by the LRU cache of getObjById(), or 0 to disable it.
+	 */
+	private int cacheSize;
+	/**
+	 * Maximum amount of distinct values of a string field generated as an enum, or 0 to disable the enums.
+	 */
+	private int enumValues;
+	/**
+	 * Whether to generate the columnar container of the table, one array per column.
+	 */
+	private boolean isColumnar;
+	/**
+	 * Whether to generate the binary serialization methods, writeTo() and readFrom().
+	 */
+	private boolean isBinary;
+	
+	/**
+	 * Default maximum amount of objects kept by the LRU cache of getObjById().
+	 */
+	public static final int DEFAULT_CACHE_SIZE = 100;
+	/**
+	 * Default maximum amount of distinct values of a string field generated as an enum.
+	 */
+	public static final int DEFAULT_ENUM_VALUES = 16;
+	
+	/**
+	 * Constructor of the class, every option is disabled.
+	 * 
+	 * @param className Name of the Java class.
+	 */
+	public GeneratorOptions(String className) {
+		this.className = className;
+	}
+	
+	/**
+	 * <p>
+	 * Enables an option from its text form, used by the batch manifests:
+	 * </p>
+	 * <ul>
+	 * <li>database</li>
+	 * <li>master</li>
+	 * <li>id=JSONField</li>
+	 * <li>filter=JSONField</li>
+	 * <li>jsonreader</li>
+	 * <li>primitives</li>
+	 * <li>list</li>
+	 * <li>cache[=size]</li>
+	 * <li>enums[=values]</li>
+	 * <li>columnar</li>
+	 * <li>binary</li>
+	 * </ul>
+	 * 
+	 * @param option option in text form.
+	 * @throws IllegalArgumentException if the option is unknown.
+	 */
+	public void setOption(String option) {
+		int separator = option.indexOf('=');
+		String key = separator < 0 ? option : option.substring(0, separator);
+		String value = separator < 0 ? "" : option.substring(separator + 1);
+		
+		switch(key) {
+			case "database":
+				isDatabase = true;
+				break;
+			case "master":
+				isMaster = true;
+				break;
+			case "id":
+				idFieldName = value;
+				break;
+			case "filter":
+				filterFieldName = value;
+				break;
+			case "jsonreader":
+				isJsonReader = true;
+				break;
+			case "primitives":
+				isPrimitive = true;
+				break;
+			case "list":
+				isList = true;
+				break;
+			case "cache":
+				cacheSize = value.isEmpty() ? DEFAULT_CACHE_SIZE : Integer.parseInt(value);
+				
+				if (cacheSize <= 0)
+					throw new IllegalArgumentException("Invalid cache size: " + option);
+				break;
+			case "columnar":
+				isColumnar = true;
+				break;
+			case "binary":
+				isBinary = true;
+				break;
+			case "enums":
+				enumValues = value.isEmpty() ? DEFAULT_ENUM_VALUES : Integer.parseInt(value);
+				
+				if (enumValues <= 0 || enumValues > FieldSchema.MAX_DISTINCT_VALUES)
+					throw new IllegalArgumentException("Invalid amount of enum values (1-" 
+							+ FieldSchema.MAX_DISTINCT_VALUES + "): " + option);
+				break;
+			default:
+				throw new IllegalArgumentException("Unknown option: " + option);
+		}
+	}
+	
+	/**
+	 * Retrieves a canonical description of every option, two classes with the same signature
+	 * and the same schema are generated exactly the same.
+	 * 
+	 * @return Signature in plain text.
+	 */
+	public String getSignature() {
+		return "class=" + className + " database=" + isDatabase + " master=" + isMaster + " id=" + idFieldName 
+				+ " filter=" + filterFieldName + " jsonreader=" + isJsonReader + " primitives=" + isPrimitive 
+				+ " list=" + isList + " cache=" + cacheSize + " enums=" + enumValues 
+				+ " columnar=" + isColumnar + " binary=" + isBinary;
+	}
+	
+	public String getClassName() {
+		return className;
+	}
+	
+	public void setClassName(String className) {
+		this.className = className;
+	}
+	
+	public boolean isDatabase() {
+		return isDatabase;
+	}
+	
+	public void setDatabase(boolean isDatabase) {
+		this.isDatabase = isDatabase;
+	}
+	
+	public boolean isMaster() {
+		return isMaster;
+	}
+	
+	public void setMaster(boolean isMaster) {
+		this.isMaster = isMaster;
+	}
+	
+	public boolean isJsonReader() {
+		return isJsonReader;
+	}
+	
+	public void setJsonReader(boolean isJsonReader) {
+		this.isJsonReader = isJsonReader;
+	}
+	
+	public boolean isPrimitive() {
+		return isPrimitive;
+	}
+	
+	public void setPrimitive(boolean isPrimitive) {
+		this.isPrimitive = isPrimitive;
+	}
+	
+	public boolean isList() {
+		return isList;
+	}
+	
+	public void setList(boolean isList) {
+		this.isList = isList;
+	}
+	
+	public String getIdFieldName() {
+		return idFieldName;
+	}
+	
+	public void setIdFieldName(String idFieldName) {
+		this.idFieldName = idFieldName;
+	}
+	
+	public String getFilterFieldName() {
+		return filterFieldName;
+	}
+	
+	public void setFilterFieldName(String filterFieldName) {
+		this.filterFieldName = filterFieldName;
+	}
+	
+	public int getCacheSize() {
+		return cacheSize;
+	}
+	
+	public void setCacheSize(int cacheSize) {
+		this.cacheSize = cacheSize;
+	}
+	
+	public int getEnumValues() {
+		return enumValues;
+	}
+	
+	public void setEnumValues(int enumValues) {
+		this.enumValues = enumValues;
+	}
+	
+	public boolean isColumnar() {
+		return isColumnar;
+	}
+	
+	public void setColumnar(boolean isColumnar) {
+		this.isColumnar = isColumnar;
+	}
+	
+	public boolean isBinary() {
+		return isBinary;
+	}
+	
+	public void setBinary(boolean isBinary) {
+		this.isBinary = isBinary;
+	}
+}
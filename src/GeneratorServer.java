@@ -0,0 +1,312 @@
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.StringReader;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.net.SocketTimeoutException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * <p>
+ * Generator daemon, keeps a warm JVM so that the build scripts don't pay the JVM startup and a cold
+ * JIT for every class. It listens on a loopback port and generates the classes of every request in
+ * parallel, see {@link GeneratorClient} for the client side.
+ * </p>
+ * <p>
+ * Every connection is a single request, all the strings are UTF-8:
+ * </p>
+ * <ul>
+ * <li>Request: command (<code>generate</code>, <code>generate-file</code> or <code>stop</code>) as
+ * <code>writeUTF</code>. For <code>generate</code>, the class name and its options separated by whitespace
+ * as <code>writeUTF</code>, then the length of the sample as <code>writeInt</code> followed by its bytes.
+ * For <code>generate-file</code>, the class name and its options, then the absolute path of the sample
+ * as <code>writeUTF</code>: the daemon runs on the same machine, so it infers the file in place, in
+ * parallel and without reading it into the heap.</li>
+ * <li>Response: <code>writeBoolean</code> whether it succeeded. If so, the amount of classes as
+ * <code>writeInt</code>, then the name of each class as <code>writeUTF</code> followed by the length
+ * of its definition as <code>writeInt</code> and its bytes. Otherwise the error as <code>writeUTF</code>.</li>
+ * </ul>
+ * <p>
+ * The daemon stops after it has been idle (no request in progress) for the given time. A client that
+ * doesn't send its request within {@link #READ_TIMEOUT} is disconnected, so that it can't hold a thread.
+ * </p>
+ * 
+ * @author Lucas De Morais Cabrales
+ * @since 2026-10-17
+ */
+public class GeneratorServer {
+	
+	/**
+	 * Default port of the daemon.
+	 */
+	public static final int DEFAULT_PORT = 7345;
+	/**
+	 * Command of a generation request.
+	 */
+	static final String GENERATE = "generate";
+	/**
+	 * Command of a generation request whose sample is a file of the same machine.
+	 */
+	static final String GENERATE_FILE = "generate-file";
+	/**
+	 * Command of a stop request.
+	 */
+	static final String STOP = "stop";
+	/**
+	 * How often the idle time is checked while waiting for connections.
+	 */
+	private static final int ACCEPT_TIMEOUT = 1000;
+	/**
+	 * How long a request can stall before the connection is dropped, in milliseconds.
+	 */
+	static final int READ_TIMEOUT = 30000;
+	/**
+	 * Largest sample sent in a request, bigger ones must be sent by path.
+	 */
+	static final int MAX_SAMPLE_SIZE = 256 * 1024 * 1024;
+	/**
+	 * Amount of warm-up generations run when the daemon starts.
+	 */
+	private static final int WARMUP_ITERATIONS = 200;
+	/**
+	 * Sample generated to warm up the JIT, it uses every kind of field and nested object.
+	 */
+	private static final String WARMUP_SAMPLE = "{\"Id\":1,\"Description\":\"a\",\"Price\":1.5,\"Active\":true,"
+			+ "\"Big\":3000000000,\"Tags\":[\"t\"],\"Address\":{\"Street\":\"s\"},\"Lines\":[{\"Qty\":2}]}";
+	
+	/**
+	 * Port of the daemon.
+	 */
+	private int port;
+	/**
+	 * Idle time before the daemon stops, in milliseconds.
+	 */
+	private long idleTimeout;
+	/**
+	 * Amount of requests served at the same time, and of threads inferring a sample file.
+	 */
+	private int threads;
+	/**
+	 * Amount of requests in progress.
+	 */
+	private final AtomicInteger activeRequests = new AtomicInteger();
+	/**
+	 * Time of the last request, as System.nanoTime().
+	 */
+	private volatile long lastActivity;
+	/**
+	 * Whether a stop request was received.
+	 */
+	private volatile boolean isStopped;
+	
+	/**
+	 * Constructor of the class.
+	 * 
+	 * @param port Port of the daemon.
+	 * @param idleTimeout Idle time before the daemon stops, in milliseconds.
+	 * @param threads Amount of requests served at the same time, and of threads inferring a sample file.
+	 */
+	public GeneratorServer(int port, long idleTimeout, int threads) {
+		this.port = port;
+		this.idleTimeout = idleTimeout;
+		this.threads = threads;
+	}
+	
+	/**
+	 * Serves the requests until the daemon is idle for too long or it receives a stop request.
+	 * 
+	 * @throws IOException if the port can not be opened.
+	 * @throws InterruptedException if the daemon is interrupted.
+	 */
+	public void run() throws IOException, InterruptedException {
+		ExecutorService executor = Executors.newFixedThreadPool(threads);
+		
+		//only local clients, the port is bound to the loopback interface.
+		try (ServerSocket server = new ServerSocket(port, 50, InetAddress.getLoopbackAddress())) {
+			server.setSoTimeout(ACCEPT_TIMEOUT);
+			lastActivity = System.nanoTime();
+			warmUp();
+			
+			while (!isStopped && !isIdle()) {
+				try {
+					Socket socket = server.accept();
+					activeRequests.incrementAndGet();
+					executor.execute(() -> serve(socket));
+				} catch (SocketTimeoutException e) {
+					//checks the idle time again.
+				}
+			}
+		} finally {
+			executor.shutdown();
+			executor.awaitTermination(1, TimeUnit.MINUTES);
+		}
+	}
+	
+	/**
+	 * Whether no request is in progress and the last one finished before the idle timeout.
+	 * 
+	 * @return true if the daemon must stop.
+	 */
+	private boolean isIdle() {
+		return activeRequests.get() == 0 && System.nanoTime() - lastActivity > idleTimeout * 1000000;
+	}
+	
+	/**
+	 * Generates a sample in a background thread, so that the first requests are served by compiled code.
+	 */
+	private void warmUp() {
+		Thread warmUp = new Thread(() -> {
+			for (int i = 0; i < WARMUP_ITERATIONS && !isStopped; i++) {
+				try {
+					generate("Warmup database master id=Id filter=Description jsonreader list", WARMUP_SAMPLE);
+					generate("Warmup primitives", WARMUP_SAMPLE);
+				} catch (IOException e) {
+					return; //only a warm-up, the requests are served anyway.
+				}
+			}
+		}, "generator-warmup");
+		
+		warmUp.setDaemon(true);
+		warmUp.setPriority(Thread.MIN_PRIORITY);
+		warmUp.start();
+	}
+	
+	/**
+	 * Serves a single request.
+	 * 
+	 * @param socket Connection of the client.
+	 */
+	private void serve(Socket socket) {
+		try (Socket connection = socket;
+				DataInputStream in = new DataInputStream(new BufferedInputStream(connection.getInputStream()));
+				DataOutputStream out = new DataOutputStream(new BufferedOutputStream(connection.getOutputStream()))) {
+			connection.setSoTimeout(READ_TIMEOUT);
+			String command = in.readUTF();
+			
+			if (command.equals(STOP)) {
+				isStopped = true;
+				out.writeBoolean(true);
+				out.writeInt(0);
+				return;
+			}
+			
+			if (!command.equals(GENERATE) && !command.equals(GENERATE_FILE)) {
+				out.writeBoolean(false);
+				out.writeUTF("Unknown command: " + command);
+				return;
+			}
+			
+			String options = in.readUTF();
+			Map<String, String> classes;
+			try {
+				if (command.equals(GENERATE_FILE)) {
+					classes = generate(options, readPath(in));
+				} else {
+					int length = in.readInt();
+					if (length < 0 || length > MAX_SAMPLE_SIZE)
+						throw new IOException("Invalid sample length: " + length + ", the limit is " + MAX_SAMPLE_SIZE + " bytes");
+					
+					byte[] sample = new byte[length];
+					in.readFully(sample);
+					classes = generate(options, new String(sample, StandardCharsets.UTF_8));
+				}
+			} catch (SocketTimeoutException e) {
+				throw e; //a stalled client gets no answer, the connection is just closed.
+			} catch (IOException | RuntimeException e) {
+				out.writeBoolean(false);
+				out.writeUTF(String.valueOf(e));
+				return;
+			}
+			
+			out.writeBoolean(true);
+			out.writeInt(classes.size());
+			
+			for (Map.Entry<String, String> generated : classes.entrySet()) {
+				byte[] definition = generated.getValue().getBytes(StandardCharsets.UTF_8);
+				out.writeUTF(generated.getKey());
+				out.writeInt(definition.length);
+				out.write(definition);
+			}
+		} catch (IOException e) {
+			//the client disconnected, nothing to answer.
+		} finally {
+			lastActivity = System.nanoTime();
+			activeRequests.decrementAndGet();
+		}
+	}
+	
+	/**
+	 * Reads the path of a sample file.
+	 * 
+	 * @param in Request of the client.
+	 * @return Absolute path of an existing file.
+	 * @throws IOException if the path can not be read, is relative or isn't a file.
+	 */
+	private static Path readPath(DataInputStream in) throws IOException {
+		Path path = Paths.get(in.readUTF());
+		
+		//a relative path would be resolved against the directory of the daemon, not the one of the client.
+		if (!path.isAbsolute())
+			throw new IOException("The sample path must be absolute: " + path);
+		
+		if (!Files.isRegularFile(path))
+			throw new IOException("Sample file not found: " + path);
+		
+		return path;
+	}
+	
+	/**
+	 * Generates a class and its nested objects.
+	 * 
+	 * @param options Class name and its options, separated by whitespace.
+	 * @param sample JSON records of the class.
+	 * @return Class definitions in plain text by class name, the model being the first one.
+	 * @throws IOException if the sample is not valid JSON.
+	 */
+	private static Map<String, String> generate(String options, String sample) throws IOException {
+		return generate(options, SchemaInference.infer(new StringReader(sample)));
+	}
+	
+	/**
+	 * Generates a class and its nested objects from a sample file, inferred in parallel.
+	 * 
+	 * @param options Class name and its options, separated by whitespace.
+	 * @param sample File containing the JSON records of the class.
+	 * @return Class definitions in plain text by class name, the model being the first one.
+	 * @throws IOException if the file can not be read or is not valid JSON.
+	 */
+	private Map<String, String> generate(String options, Path sample) throws IOException {
+		return generate(options, SchemaInference.inferParallel(sample, threads));
+	}
+	
+	/**
+	 * Generates a class and its nested objects from their schema.
+	 * 
+	 * @param options Class name and its options, separated by whitespace.
+	 * @param schema Schema of the class.
+	 * @return Class definitions in plain text by class name, the model being the first one.
+	 */
+	private static Map<String, String> generate(String options, Schema schema) {
+		String[] tokens = options.trim().split("\\s+");
+		GeneratorOptions generatorOptions = new GeneratorOptions(tokens[0]);
+		
+		for (int i = 1; i < tokens.length; i++) {
+			if (!tokens[i].isEmpty())
+				generatorOptions.setOption(tokens[i]);
+		}
+		
+		return new ModelGenerator(generatorOptions).generateAll(schema);
+	}
+}
@@ -1,6 +1,7 @@
+import java.io.IOException;
+import java.io.Reader;
 import java.util.ArrayList;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
+import java.util.List;
 
 /**
  * Provides the simple parsed output in plain text from a JSON object, such as the class variables
@@ -20,6 +21,22 @@ public class JSONParser {
 	 * Java class variables.
 	 */
 	private ArrayList<Variable> variables;
+	/**
+	 * Whether the class variables use primitive types instead of boxed ones.
+	 */
+	private boolean isPrimitive;
+	/**
+	 * Amount of presence bits assigned to nullable primitive variables.
+	 */
+	private int presenceBits;
+	/**
+	 * Maximum amount of distinct values of a string variable generated as an enum, 0 when there are no enums.
+	 */
+	private int enumValues;
+	/**
+	 * JSON field name of the getObj() filter, which is always kept as a String.
+	 */
+	private String filterFieldName = "";
 	
 	/**
 	 * Simple constructor, receives the Java class name and initializes the variables array.
@@ -37,14 +54,126 @@ public class JSONParser {
 	 * @return Class variables in plain text.
 	 */
 	public String getVariablesDefinition() {
-		String vDefinition = "";
+		CodeEmitter out = new CodeEmitter();
+		writeVariablesDefinition(out);
+		return out.toString();
+	}
+	
+	/**
+	 * Appends the Java class variables.
+	 * 
+	 * @param out output of the generated class.
+	 */
+	public void writeVariablesDefinition(CodeEmitter out) {
+		for (Variable v : variables) {
+			out.append("public ").append(v.getTypeName()).append(" ").append(v.getName()).append(";");
+		}
 		
 		for (Variable v : variables) {
-			vDefinition += "public " + v.getType().getName() 
-					+ " " + v.getName() + ";";
+			if (v.getType() == ValueType.ENUM) {
+				writeEnumDefinition(out, v);
+				writeEnumAccessorsDefinition(out, v);
+			}
+		}
+		
+		if (presenceBits == 0)
+			return;
+		
+		//presence bitset of the nullable primitive variables, a bit is set when the variable has a value.
+		for (int i = 0; i < presenceBits; i += 64) {
+			out.append("private long presence").append(i >> 6).append(";");
 		}
 		
-		return vDefinition;
+		for (Variable v : variables) {
+			if (v.hasPresenceBit()) {
+				String suffix = getPascalCase(v.getName());
+				
+				out.append("public boolean has").append(suffix).append("() { return (").append(v.getPresenceField())
+					.append(" & ").append(v.getPresenceMask()).append(") != 0; }")
+					.append("public void set").append(suffix).append("(").append(v.getTypeName()).append(" value) { ")
+					.append(v.getName()).append(" = value; ").append(v.getPresenceField()).append(" |= ")
+					.append(v.getPresenceMask()).append("; }");
+			}
+		}
+	}
+	
+	/**
+	 * Appends the enum of a low-cardinality string variable. Every constant keeps its JSON value, 
+	 * fromValue() converts the JSON value (UNKNOWN if it wasn't in the samples) and fromOrdinal() 
+	 * converts the ordinals of the columnar container, which only live in memory.
+	 * 
+	 * @param out output of the generated class.
+	 * @param v class variable.
+	 */
+	private void writeEnumDefinition(CodeEmitter out, Variable v) {
+		String name = v.getEnumName();
+		List<String> values = v.getEnumValues();
+		List<String> constants = new ArrayList<>();
+		
+		out.append("public enum ").append(name).append(" { ");
+		for (int i = 0; i < values.size(); i++) {
+			String constant = getConstantName(values.get(i), i);
+			if (constants.contains(constant) || constant.equals("VALUES") || constant.equals("UNKNOWN"))
+				constant += "_" + i;
+			
+			constants.add(constant);
+			out.append(i == 0 ? "" : ", ").append(constant).append("(").append(getStringLiteral(values.get(i))).append(")");
+		}
+		
+		out.append(", UNKNOWN(null); private static final ").append(name).append("[] VALUES = values(); public final String value; ")
+			.append(name).append("(String value) { this.value = value; } ")
+			.append("public static ").append(name).append(" fromValue(String value) { if (value == null) return null; switch (value) { ");
+		
+		for (int i = 0; i < values.size(); i++) {
+			out.append("case ").append(getStringLiteral(values.get(i))).append(": return ").append(constants.get(i)).append("; ");
+		}
+		
+		out.append("default: return UNKNOWN; } } public static ").append(name).append(" fromOrdinal(int ordinal) { ")
+			.append("return ordinal >= 0 && ordinal < VALUES.length ? VALUES[ordinal] : null; } }");
+	}
+	
+	/**
+	 * Appends the accessors of the JSON value of an enum variable, which is what gets stored (the database 
+	 * column and the binary copy), so that new values don't shift any stored code. A value that wasn't 
+	 * in the samples is read as UNKNOWN, and kept in a private field so that it's written back unchanged.
+	 * 
+	 * @param out output of the generated class.
+	 * @param v class variable.
+	 */
+	private void writeEnumAccessorsDefinition(CodeEmitter out, Variable v) {
+		String name = v.getName();
+		String unknown = v.getEnumUnknownField();
+		
+		out.append("private String ").append(unknown).append(";")
+			.append("public String get").append(v.getEnumValueAccessor()).append("() { return ").append(name).append(" == ")
+			.append(v.getEnumName()).append(".UNKNOWN ? ").append(unknown).append(" : ").append(name).append(" == null ? null : ")
+			.append(name).append(".value; } ")
+			.append("public void set").append(v.getEnumValueAccessor()).append("(String value) { ").append(name).append(" = ")
+			.append(v.getEnumName()).append(".fromValue(value); ").append(unknown).append(" = ").append(name).append(" == ")
+			.append(v.getEnumName()).append(".UNKNOWN ? value : null; }");
+	}
+	
+	/**
+	 * Enables enums for the string variables with a handful of distinct values (e.g. a status or a
+	 * currency code), it has to be set before adding the fields. The filter field is always kept as 
+	 * a String, it's searched by text.
+	 * 
+	 * @param enumValues maximum amount of distinct values of an enum, 0 to disable them.
+	 * @param filterFieldName JSON field name of the getObj() filter.
+	 */
+	public void setEnums(int enumValues, String filterFieldName) {
+		this.enumValues = enumValues;
+		this.filterFieldName = filterFieldName;
+	}
+	
+	/**
+	 * Enables primitive class variables (int, long, double, boolean) instead of boxed ones,
+	 * it has to be set before adding the fields. Nullable variables get a presence bit.
+	 * 
+	 * @param isPrimitive whether to use primitive types.
+	 */
+	public void setPrimitive(boolean isPrimitive) {
+		this.isPrimitive = isPrimitive;
 	}
 	
 	/**
@@ -60,6 +189,99 @@ public class JSONParser {
 				"} catch (JSONException e) { Debug.error(TAG, e); } return obj;} ";
 	}
 	
+	/**
+	 * Appends the fromJson() method definition, parsing every class variable.
+	 * 
+	 * @param out output of the generated class.
+	 */
+	public void writeMethodDefinition(CodeEmitter out) {
+		out.append("public static ").append(className).append(" fromJson(JSONObject jObj) { ")
+			.append(className).append(" obj = new ").append(className).append("(); try { ");
+		
+		for (Variable v : variables) {
+			Metrics.Sample sample = Metrics.start(Metrics.Stage.PARSE_FIELD);
+			writeParsedField(out, v);
+			Metrics.stop(sample);
+		}
+		
+		out.append("} catch (JSONException e) { Debug.error(TAG, e); } return obj;} ");
+	}
+	
+	/**
+	 * Appends the fromJson(JsonReader) method definition, a pull parser that fills the object
+	 * in a single pass without building a JSONObject first. Unknown fields are skipped and null
+	 * or missing fields keep the same default values as fromJson(JSONObject).
+	 * 
+	 * @param out output of the generated class.
+	 */
+	public void writeReaderMethodDefinition(CodeEmitter out) {
+		out.append("public static ").append(className).append(" fromJson(JsonReader reader) throws IOException { ")
+			.append(className).append(" obj = new ").append(className).append("();");
+		
+		for (Variable v : variables) {
+			out.append("obj.").append(v.getName()).append(" = ").append(getDefaultValue(v.getType())).append(";");
+		}
+		
+		out.append("reader.beginObject(); while (reader.hasNext()) { String name = reader.nextName();")
+			.append("if (reader.peek() == JsonToken.NULL) { reader.nextNull(); continue; } switch (name) {");
+		
+		for (Variable v : variables) {
+			out.append("case ").append(getParsedFieldName(v.getJsonName())).append(": ");
+			
+			if (v.getType() == ValueType.OBJECT) {
+				out.append("obj.").append(v.getName()).append(" = ").append(v.getChildClassName()).append(".fromJson(reader); break;");
+				continue;
+			} else if (v.isChildArray()) {
+				out.append("obj.").append(v.getName()).append(" = ").append(v.getChildClassName()).append(".listFromJson(reader); break;");
+				continue;
+			} else if (v.getType() == ValueType.ARRAY) {
+				out.append("reader.beginArray(); while (reader.hasNext()) { if (reader.peek() == JsonToken.NULL) reader.skipValue(); ")
+					.append("else obj.").append(v.getName()).append(".add(reader.").append(getReaderMethod(v.getElementType()))
+					.append("()); } reader.endArray(); break;");
+				continue;
+			}
+			
+			if (v.getType() == ValueType.ENUM) {
+				out.append("obj.set").append(v.getEnumValueAccessor()).append("(reader.nextString()); break;");
+				continue;
+			}
+			
+			out.append("obj.").append(v.getName()).append(" = reader.").append(getReaderMethod(v.getType())).append("();");
+			
+			if (v.hasPresenceBit())
+				out.append("obj.").append(v.getPresenceField()).append(" |= ").append(v.getPresenceMask()).append(";");
+			
+			out.append(" break;");
+		}
+		
+		out.append("default: reader.skipValue(); } } reader.endObject(); return obj; } ");
+	}
+	
+	/**
+	 * Appends the listFromJson(JSONArray) method definition, it parses every element of the
+	 * array into a list presized to the array length.
+	 * 
+	 * @param out output of the generated class.
+	 */
+	public void writeListMethodDefinition(CodeEmitter out) {
+		out.append("public static ArrayList<").append(className).append("> listFromJson(JSONArray jArray) { ")
+			.append("int length = jArray.length(); ArrayList<").append(className).append("> list = new ArrayList<>(length); ")
+			.append("try { for (int i = 0; i < length; i++) { list.add(fromJson(jArray.getJSONObject(i))); } } ")
+			.append("catch (JSONException e) { Debug.error(TAG, e); } return list; } ");
+	}
+	
+	/**
+	 * Appends the listFromJson(JsonReader) method definition, it parses every element of the
+	 * array in a single pass.
+	 * 
+	 * @param out output of the generated class.
+	 */
+	public void writeReaderListMethodDefinition(CodeEmitter out) {
+		out.append("public static ArrayList<").append(className).append("> listFromJson(JsonReader reader) throws IOException { ")
+			.append("ArrayList<").append(className).append("> list = new ArrayList<>(); reader.beginArray(); ")
+			.append("while (reader.hasNext()) { list.add(fromJson(reader)); } reader.endArray(); return list; } ");
+	}
+	
 	/**
 	 * Generates the line of code to parse each field of the JSON object into its associated
 	 * class variable.
@@ -69,28 +291,165 @@ public class JSONParser {
 	 * @return Line of code containing the parsed JSON field into the associated class variable.
 	 */
 	public String parseLine(String line, String idFieldName) {
-		String result = "";
+		Metrics.Sample sample = Metrics.start(Metrics.Stage.PARSE_FIELD);
+		CodeEmitter out = new CodeEmitter();
+		writeParsedField(out, addField(getFieldName(line), getFieldValueType(line), idFieldName));
+		Metrics.stop(sample);
+		return out.toString();
+	}
+	
+	/**
+	 * Reads a complete JSON object from the input, no matter how it is formatted, and generates
+	 * the lines of code to parse each one of its fields. Reading stops right after the object ends.
+	 * 
+	 * @param reader Input containing the JSON object.
+	 * @param idFieldName JSON field name for the id value
+	 * @return Lines of code containing every parsed JSON field into the associated class variable.
+	 * @throws IOException if the input can not be read or it is not a valid JSON object.
+	 */
+	public String parse(Reader reader, String idFieldName) throws IOException {
+		Schema schema = new Schema();
 		
-		String fieldName = getFieldName(line); //JSON field name
+		if (!SchemaInference.readDocument(new JSONTokenizer(reader), schema))
+			throw new IOException("Expected a JSON object or array of objects");
+		
+		return parse(schema, idFieldName);
+	}
+	
+	/**
+	 * Generates the lines of code to parse each field of a schema inferred from one or more JSON records.
+	 * 
+	 * @param schema Merged schema of the JSON records.
+	 * @param idFieldName JSON field name for the id value
+	 * @return Lines of code containing every parsed JSON field into the associated class variable.
+	 */
+	public String parse(Schema schema, String idFieldName) {
+		CodeEmitter out = new CodeEmitter();
+		int first = variables.size();
+		
+		addFields(schema, idFieldName);
+		
+		for (int i = first; i < variables.size(); i++) {
+			Metrics.Sample sample = Metrics.start(Metrics.Stage.PARSE_FIELD);
+			writeParsedField(out, variables.get(i));
+			Metrics.stop(sample);
+		}
+		
+		return out.toString();
+	}
+	
+	/**
+	 * Adds a class variable for each field of a schema inferred from one or more JSON records.
+	 * 
+	 * @param schema Merged schema of the JSON records.
+	 * @param idFieldName JSON field name for the id value
+	 */
+	public void addFields(Schema schema, String idFieldName) {
+		for (FieldSchema field : schema.getFields()) {
+			Variable v = addField(field.getName(), field.getValueType(), idFieldName);
+			v.setNullable(field.isNullable() || field.isOptional(schema.getRecords()));
+			
+			//strings with a handful of distinct values are generated as enums, but the id and the filter.
+			if (enumValues > 0 && v.getType() == ValueType.STRING && !field.getName().equals(idFieldName) 
+					&& !field.getName().equals(filterFieldName) && field.isLowCardinality(enumValues)) {
+				String enumName = getPascalCase(v.getName());
+				v.setType(ValueType.ENUM);
+				v.setEnumName(enumName.equals(className) ? enumName + "Type" : enumName);
+				v.setEnumValues(field.getDistinctValues());
+			}
+			
+			//nested objects and arrays of objects are generated as child classes.
+			if (v.getType() == ValueType.OBJECT) {
+				v.setChildClassName(className + getPascalCase(v.getName()));
+				v.setChildSchema(field.getChildren());
+			} else if (v.getType() == ValueType.ARRAY && field.isObjectArray()) {
+				v.setChildClassName(className + getPascalCase(v.getName()));
+				v.setChildSchema(field.getElements());
+			} else if (v.getType() == ValueType.ARRAY)
+				v.setElementType(field.getElementType());
+			
+			//only the fields that were null or missing in the samples pay for a presence bit.
+			if (v.isPrimitive() && v.isNullable())
+				v.setPresenceBit(presenceBits++);
+		}
+	}
+	
+	/**
+	 * Adds the class variable associated to a single JSON field.
+	 * 
+	 * @param fieldName JSON field name.
+	 * @param valueType type of the field value.
+	 * @param idFieldName JSON field name for the id value
+	 * @return Class variable.
+	 */
+	private Variable addField(String fieldName, ValueType valueType, String idFieldName) {
 		String variableName = fieldName.equals(idFieldName) ? "id" : getVariableName(fieldName); //class variable converted to camelCase.
-		ValueType valueType = getFieldValueType(line); //implicitly detects the variable type.
-		String valueTypeParsed = getFieldValueTypeParsed(valueType); //retrieves the code to parse the variable type.
+		Variable v = new Variable(valueType, variableName);
+		v.setJsonName(fieldName);
+		v.setPrimitive(isPrimitive && valueType.hasPrimitive());
 		
-		variables.add(new Variable(valueType, variableName));
-
-		result = "obj." + variableName;
+		variables.add(v);
+		Metrics.add(Metrics.Counter.FIELDS, 1);
+		return v;
+	}
+	
+	/**
+	 * Appends the line of code to parse a single JSON field into its associated class variable.
+	 * 
+	 * @param out output of the generated class.
+	 * @param v class variable.
+	 */
+	private void writeParsedField(CodeEmitter out, Variable v) {
+		String fieldName = getParsedFieldName(v.getJsonName());
+		
+		if (v.getType() == ValueType.OBJECT) {
+			out.append("obj.").append(v.getName()).append(" = jObj.isNull(").append(fieldName).append(") ? null : ")
+				.append(v.getChildClassName()).append(".fromJson(jObj.getJSONObject(").append(fieldName).append("));");
+			return;
+		}
+		
+		if (v.isChildArray()) {
+			out.append("obj.").append(v.getName()).append(" = jObj.isNull(").append(fieldName).append(") ? new ")
+				.append(v.getTypeName()).append("() : ").append(v.getChildClassName())
+				.append(".listFromJson(jObj.getJSONArray(").append(fieldName).append("));");
+			return;
+		}
+		
+		if (v.getType() == ValueType.ARRAY) {
+			//array of single values, null elements are dropped.
+			out.append("obj.").append(v.getName()).append(" = new ArrayList<>(); if (!jObj.isNull(").append(fieldName)
+				.append(")) { JSONArray array = jObj.getJSONArray(").append(fieldName).append("); int length = array.length(); obj.")
+				.append(v.getName()).append(".ensureCapacity(length); for (int i = 0; i < length; i++) { if (!array.isNull(i)) obj.")
+				.append(v.getName()).append(".add(array.").append(getJSONMethod(v.getElementType())).append("(i)); } }");
+			return;
+		}
+		
+		if (v.getType() == ValueType.ENUM) {
+			out.append("obj.set").append(v.getEnumValueAccessor()).append("(jObj.isNull(").append(fieldName)
+				.append(") ? null : jObj.getString(").append(fieldName).append("));");
+			return;
+		}
+		
+		if (v.hasPresenceBit()) {
+			//the value is only assigned, and marked as present, when it is not null.
+			out.append("if (!jObj.isNull(").append(fieldName).append(")) { obj.").append(v.getName())
+				.append(" = jObj.").append(getJSONMethod(v.getType())).append("(")
+				.append(fieldName).append("); obj.").append(v.getPresenceField()).append(" |= ")
+				.append(v.getPresenceMask()).append("; }");
+			return;
+		}
+		
+		out.append("obj.").append(v.getName());
 		
-		if (valueType == ValueType.BOOLEAN) {
+		if (v.getType() == ValueType.BOOLEAN) {
 			//parsing line of code is simplified
-			result += " = !jObj.isNull(" + getParsedFieldName(fieldName) +") && ";
+			out.append(" = !jObj.isNull(").append(fieldName).append(") && ");
 		} else {
 			//standard code
-			result += " = jObj.isNull(" + getParsedFieldName(fieldName) +") ? ";
+			out.append(" = jObj.isNull(").append(fieldName).append(") ? ");
 		}
 		
-		result += valueTypeParsed + getParsedFieldName(fieldName) + ");";
-		
-		return result;
+		out.append(getFieldValueTypeParsed(v.getType())).append(fieldName).append(");");
 	}
 	
 	/**
@@ -100,14 +459,13 @@ public class JSONParser {
 	 * @return JSON field name.
 	 */
 	private String getFieldName(String line) {
-		Pattern p = Pattern.compile("\"([^\"]*)\""); //Gets String between quotes characters
-		Matcher m = p.matcher(line);
+		int start = line.indexOf('"'); //Gets String between quotes characters
+		int end = start < 0 ? -1 : line.indexOf('"', start + 1);
 		
-		while (m.find()) {
-		  return m.group(1).trim();
-		}
+		if (end < 0)
+			return "";
 		
-		return "";
+		return line.substring(start + 1, end).trim();
 	}
 	
 	/**
@@ -121,6 +479,73 @@ public class JSONParser {
 				+ fieldName.substring(1, fieldName.length());
 	}
 	
+	/**
+	 * Converts a variable name (camelCase) into PascalCase, used for accessor names.
+	 * 
+	 * @param name Java variable name.
+	 * @return Name in PascalCase.
+	 */
+	public static String getPascalCase(String name) {
+		return name.substring(0, 1).toUpperCase() + name.substring(1);
+	}
+	
+	/**
+	 * Converts a JSON value into the name of an enum constant (UPPER_SNAKE_CASE), every character that
+	 * isn't a letter or a digit becomes an underscore.
+	 * 
+	 * @param value JSON value.
+	 * @param index index of the value, used when nothing of the value can be kept.
+	 * @return Constant name.
+	 */
+	private static String getConstantName(String value, int index) {
+		StringBuilder name = new StringBuilder();
+		boolean hasLetters = false;
+		
+		for (int i = 0; i < value.length(); i++) {
+			char ch = value.charAt(i);
+			
+			if (Character.isLetterOrDigit(ch) && ch < 128) {
+				//camelCase words are separated as well.
+				if (Character.isUpperCase(ch) && i > 0 && Character.isLowerCase(value.charAt(i - 1)))
+					name.append('_');
+				
+				name.append(Character.toUpperCase(ch));
+				hasLetters = true;
+			} else
+				name.append('_');
+		}
+		
+		if (!hasLetters)
+			return "VALUE_" + index;
+		
+		return Character.isDigit(name.charAt(0)) ? "_" + name : name.toString();
+	}
+	
+	/**
+	 * Converts a text into a Java string literal, escaping the characters that can't be written as they are.
+	 * 
+	 * @param text text of the literal.
+	 * @return String literal, surrounded with double quotes.
+	 */
+	private static String getStringLiteral(String text) {
+		StringBuilder literal = new StringBuilder("\"");
+		
+		for (int i = 0; i < text.length(); i++) {
+			char ch = text.charAt(i);
+			
+			if (ch == '"' || ch == '\\')
+				literal.append('\\').append(ch);
+			else if (ch < 0x20)
+				literal.append(String.format("\\%03o", (int) ch)); //unicode escapes of line breaks don't compile.
+			else if (ch > 0x7E)
+				literal.append(String.format("\\u%04x", (int) ch));
+			else
+				literal.append(ch);
+		}
+		
+		return literal.append('"').toString();
+	}
+	
 	/**
 	 * Surrounds the JSON field name with double quotes in order to generate the parsing line of code.
 	 * 
@@ -174,12 +599,88 @@ public class JSONParser {
 				return "jObj.getBoolean(";
 			case DOUBLE: 
 				return "0D : jObj.getDouble(";
+			case LONG:
+				return "0L : jObj.getLong(";
 			case INTEGER:
 			default:
 				return "0 : jObj.getInt(";
 		}
 	}
 	
+	/**
+	 * Retrieves the appropriate JSONObject method for reading each ValueType.
+	 * 
+	 * @param type value of ValueType, type of the variable.
+	 * @return JSONObject method name.
+	 */
+	private String getJSONMethod(ValueType type) {
+		
+		switch(type) {
+			case STRING:
+				return "getString";
+			case BOOLEAN:
+				return "getBoolean";
+			case DOUBLE: 
+				return "getDouble";
+			case LONG:
+				return "getLong";
+			case INTEGER:
+			default:
+				return "getInt";
+		}
+	}
+	
+	/**
+	 * Retrieves the value assigned to a variable when its JSON field is null or missing.
+	 * 
+	 * @param type value of ValueType, type of the variable.
+	 * @return default value in plain text.
+	 */
+	private String getDefaultValue(ValueType type) {
+		
+		switch(type) {
+			case STRING:
+				return "\"\"";
+			case BOOLEAN:
+				return "false";
+			case DOUBLE: 
+				return "0D";
+			case LONG:
+				return "0L";
+			case OBJECT:
+			case ENUM:
+				return "null";
+			case ARRAY:
+				return "new ArrayList<>()";
+			case INTEGER:
+			default:
+				return "0";
+		}
+	}
+	
+	/**
+	 * Retrieves the appropriate JsonReader method for reading each ValueType.
+	 * 
+	 * @param type value of ValueType, type of the variable.
+	 * @return JsonReader method name.
+	 */
+	private String getReaderMethod(ValueType type) {
+		
+		switch(type) {
+			case STRING:
+				return "nextString";
+			case BOOLEAN:
+				return "nextBoolean";
+			case DOUBLE: 
+				return "nextDouble";
+			case LONG:
+				return "nextLong";
+			case INTEGER:
+			default:
+				return "nextInt";
+		}
+	}
+	
 	/**
 	 * Retrieves all of the class variables
 	 * 
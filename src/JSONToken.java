@@ -0,0 +1,30 @@
+/**
+ * Defines all of the tokens emitted by the {@link JSONTokenizer}.
+ * 
+ * @author Lucas De Morais Cabrales
+ * @since 2026-10-17
+ */
+public enum JSONToken {
+	BEGIN_OBJECT,
+	END_OBJECT,
+	BEGIN_ARRAY,
+	END_ARRAY,
+	FIELD_NAME,
+	STRING,
+	INTEGER,
+	DOUBLE,
+	TRUE,
+	FALSE,
+	NULL,
+	END_DOCUMENT;
+	
+	/**
+	 * Whether the token is a single value (not a field name, a container boundary or the end of the input).
+	 * 
+	 * @return true if the token is a scalar value.
+	 */
+	public boolean isScalar() {
+		return this == STRING || this == INTEGER || this == DOUBLE
+				|| this == TRUE || this == FALSE || this == NULL;
+	}
+}
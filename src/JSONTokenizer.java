@@ -0,0 +1,653 @@
+import java.io.IOException;
+import java.io.Reader;
+
+/**
+ * <p>
+ * Single-pass pull tokenizer over a character stream, it does not depend on line breaks
+ * and it does not compile any regular expression, so minified JSON payloads of any size
+ * can be processed without being loaded into memory.
+ * </p>
+ * <p>
+ * The text of field names, strings and numbers is kept in a reusable buffer and is only turned
+ * into a String when requested, field names are canonicalized through a small cache, so the same
+ * field found in many documents does not allocate a new String every time.
+ * </p>
+ * 
+ * @author Lucas De Morais Cabrales
+ * @since 2026-10-17
+ */
+public class JSONTokenizer {
+	
+	/**
+	 * Size of the input buffer.
+	 */
+	private static final int BUFFER_SIZE = 8192;
+	/**
+	 * Size of the field name cache, must be a power of two.
+	 */
+	private static final int NAME_CACHE_SIZE = 512;
+	/**
+	 * Size of the string value cache, must be a power of two.
+	 */
+	private static final int VALUE_CACHE_SIZE = 1024;
+	
+	/**
+	 * Source of characters, null when a subclass provides its own {@link #read(char[], int, int)}.
+	 */
+	private Reader reader;
+	/**
+	 * Input buffer.
+	 */
+	private char[] buffer = new char[BUFFER_SIZE];
+	/**
+	 * Position of the next character to read in the input buffer.
+	 */
+	private int pos;
+	/**
+	 * Amount of valid characters in the input buffer.
+	 */
+	private int limit;
+	/**
+	 * Amount of characters consumed before the current input buffer.
+	 */
+	private long consumed;
+	/**
+	 * Text of the last field name, string or number.
+	 */
+	private char[] text = new char[64];
+	/**
+	 * Length of the text of the last field name, string or number.
+	 */
+	private int textLength;
+	/**
+	 * Whether each open container is an object (true) or an array (false).
+	 */
+	private boolean[] containers = new boolean[32];
+	/**
+	 * Amount of currently open containers.
+	 */
+	private int depth;
+	/**
+	 * Whether the next string inside of the current object is a field name.
+	 */
+	private boolean expectingName;
+	/**
+	 * Separator expected before the next token: ':' after a field name, ',' after a value inside of
+	 * a container, 0 if none.
+	 */
+	private char separator;
+	/**
+	 * Canonical field names, indexed by their hash.
+	 */
+	private final String[] names = new String[NAME_CACHE_SIZE];
+	/**
+	 * Canonical string values, indexed by their hash. Kept apart from the names, so that values don't
+	 * evict the field names.
+	 */
+	private final String[] values = new String[VALUE_CACHE_SIZE];
+	/**
+	 * Amount of tokens read so far.
+	 */
+	private long tokenCount;
+	
+	/**
+	 * Constructor of the class.
+	 * 
+	 * @param reader Source of characters, it is not buffered again so it can be any Reader.
+	 */
+	public JSONTokenizer(Reader reader) {
+		this.reader = reader;
+	}
+	
+	/**
+	 * Constructor for subclasses that provide their own characters through {@link #read(char[], int, int)}.
+	 */
+	protected JSONTokenizer() {
+	}
+	
+	/**
+	 * Reads the next characters of the input.
+	 * 
+	 * @param buf destination buffer.
+	 * @param off first position to write.
+	 * @param len maximum amount of characters to write.
+	 * @return amount of characters written, or -1 at the end of the input.
+	 * @throws IOException if the input can not be read.
+	 */
+	protected int read(char[] buf, int off, int len) throws IOException {
+		return reader.read(buf, off, len);
+	}
+	
+	/**
+	 * Reads the next token of the input.
+	 * 
+	 * @return Next token, {@link JSONToken#END_DOCUMENT} once there's nothing left to read.
+	 * @throws IOException if the input can not be read or it is not valid JSON.
+	 */
+	public JSONToken nextToken() throws IOException {
+		int ch = nextSignificant();
+		tokenCount++;
+		
+		if (separator != 0) {
+			//only the end of the container can follow a value without a comma.
+			if (ch == separator) {
+				ch = nextSignificant();
+				
+				if (ch == '}' || ch == ']' || ch == -1)
+					throw syntaxError("Expected a value after '" + separator + "'");
+				
+				separator = 0;
+			} else if (separator == ':' || (ch != '}' && ch != ']' && ch != -1))
+				throw syntaxError("Expected '" + separator + "'");
+		}
+		
+		if (expectingName && ch != '"' && ch != '}' && ch != -1)
+			throw syntaxError("Expected a field name");
+		
+		switch (ch) {
+			case -1:
+				if (depth > 0)
+					throw syntaxError("Unterminated " + (containers[depth - 1] ? "object" : "array"));
+				return JSONToken.END_DOCUMENT;
+			case '{':
+				push(true);
+				return JSONToken.BEGIN_OBJECT;
+			case '[':
+				push(false);
+				return JSONToken.BEGIN_ARRAY;
+			case '}':
+				pop(true);
+				return JSONToken.END_OBJECT;
+			case ']':
+				pop(false);
+				return JSONToken.END_ARRAY;
+			case '"':
+				readString();
+				
+				if (depth > 0 && containers[depth - 1] && expectingName) {
+					expectingName = false;
+					separator = ':';
+					return JSONToken.FIELD_NAME;
+				}
+				
+				valueRead();
+				return JSONToken.STRING;
+			case 't':
+				readLiteral("true");
+				valueRead();
+				return JSONToken.TRUE;
+			case 'f':
+				readLiteral("false");
+				valueRead();
+				return JSONToken.FALSE;
+			case 'n':
+				readLiteral("null");
+				valueRead();
+				return JSONToken.NULL;
+			default:
+				if (ch == '-' || (ch >= '0' && ch <= '9')) {
+					JSONToken token = readNumber((char) ch);
+					valueRead();
+					return token;
+				}
+				
+				throw syntaxError("Unexpected character '" + (char) ch + "'");
+		}
+	}
+	
+	/**
+	 * Skips the rest of the container whose BEGIN token was just read, including nested containers.
+	 * 
+	 * @throws IOException if the input can not be read or it is not valid JSON.
+	 */
+	public void skipChildren() throws IOException {
+		int target = depth - 1;
+		
+		while (depth > target) {
+			if (nextToken() == JSONToken.END_DOCUMENT)
+				return;
+		}
+	}
+	
+	/**
+	 * Retrieves the text of the last field name, string or number.
+	 * 
+	 * @return Text of the last token.
+	 */
+	public String getText() {
+		return new String(text, 0, textLength);
+	}
+	
+	/**
+	 * Whether the last {@link JSONToken#INTEGER} fits in an int, it does not allocate.
+	 * 
+	 * @return false if the integer needs a long (or it's even larger).
+	 */
+	public boolean fitsInInt() {
+		int start = text[0] == '-' ? 1 : 0;
+		int digits = textLength - start;
+		
+		if (digits < 10)
+			return true;
+		if (digits > 10)
+			return false;
+		
+		long value = 0;
+		for (int i = start; i < textLength; i++)
+			value = value * 10 + (text[i] - '0');
+		
+		return start == 1 ? -value >= Integer.MIN_VALUE : value <= Integer.MAX_VALUE;
+	}
+	
+	/**
+	 * Retrieves the last field name, the same instance is returned for repeated names.
+	 * 
+	 * @return Field name.
+	 */
+	public String getFieldName() {
+		return getCanonicalText(names);
+	}
+	
+	/**
+	 * Retrieves the text of the last string through a cache of its own, so that repeated values
+	 * (e.g. the few values of a status field) don't allocate a new String.
+	 * 
+	 * @return Text of the last token.
+	 */
+	public String getCanonicalText() {
+		return getCanonicalText(values);
+	}
+	
+	/**
+	 * Retrieves the text of the last token through the given cache, indexed by its hash.
+	 * 
+	 * @param cache canonical Strings, its length must be a power of two.
+	 * @return Text of the last token.
+	 */
+	private String getCanonicalText(String[] cache) {
+		int hash = 0;
+		for (int i = 0; i < textLength; i++)
+			hash = 31 * hash + text[i];
+		
+		int index = (hash ^ (hash >>> 16)) & (cache.length - 1);
+		String value = cache[index];
+		
+		if (value == null || !sameText(value)) {
+			value = getText();
+			cache[index] = value;
+		}
+		
+		return value;
+	}
+	
+	/**
+	 * Retrieves the amount of currently open containers.
+	 * 
+	 * @return Nesting depth, 0 between top level values.
+	 */
+	public int getDepth() {
+		return depth;
+	}
+	
+	/**
+	 * Retrieves the amount of characters consumed so far.
+	 * 
+	 * @return Position of the tokenizer in the input.
+	 */
+	public long getPosition() {
+		return consumed + pos;
+	}
+	
+	/**
+	 * Retrieves the amount of tokens read so far, including {@link JSONToken#END_DOCUMENT}.
+	 * 
+	 * @return Amount of tokens.
+	 */
+	public long getTokenCount() {
+		return tokenCount;
+	}
+	
+	/**
+	 * Compares the last token text with a String.
+	 * 
+	 * @param value String to compare.
+	 * @return true if both have the same characters.
+	 */
+	private boolean sameText(String value) {
+		if (value.length() != textLength)
+			return false;
+		
+		for (int i = 0; i < textLength; i++) {
+			if (value.charAt(i) != text[i])
+				return false;
+		}
+		
+		return true;
+	}
+	
+	/**
+	 * Opens a container.
+	 * 
+	 * @param isObject whether the container is an object or an array.
+	 */
+	private void push(boolean isObject) {
+		if (depth == containers.length) {
+			boolean[] grown = new boolean[depth * 2];
+			System.arraycopy(containers, 0, grown, 0, depth);
+			containers = grown;
+		}
+		
+		containers[depth++] = isObject;
+		expectingName = isObject;
+		separator = 0;
+	}
+	
+	/**
+	 * Closes the current container.
+	 * 
+	 * @param isObject whether the closing character belongs to an object or an array.
+	 * @throws IOException if the container does not match.
+	 */
+	private void pop(boolean isObject) throws IOException {
+		if (depth == 0 || containers[depth - 1] != isObject)
+			throw syntaxError("Unexpected character '" + (isObject ? '}' : ']') + "'");
+		
+		depth--;
+		valueRead();
+	}
+	
+	/**
+	 * Updates the state after a complete value, the next string of an object is a field name again
+	 * and the next value of a container must follow a comma.
+	 */
+	private void valueRead() {
+		expectingName = depth > 0 && containers[depth - 1];
+		separator = depth > 0 ? ',' : 0;
+	}
+	
+	/**
+	 * Retrieves the next character that is not whitespace.
+	 * 
+	 * @return Next significant character, or -1 at the end of the input.
+	 * @throws IOException if the input can not be read.
+	 */
+	private int nextSignificant() throws IOException {
+		while (true) {
+			if (pos == limit && !fill())
+				return -1;
+			
+			char ch = buffer[pos++];
+			
+			if (ch != ' ' && ch != '\n' && ch != '\r' && ch != '\t')
+				return ch;
+		}
+	}
+	
+	/**
+	 * Refills the input buffer once every character has been consumed.
+	 * 
+	 * @return false at the end of the input.
+	 * @throws IOException if the input can not be read.
+	 */
+	private boolean fill() throws IOException {
+		consumed += limit;
+		pos = 0;
+		limit = 0;
+		
+		int read;
+		do {
+			read = read(buffer, 0, buffer.length);
+		} while (read == 0);
+		
+		if (read < 0)
+			return false;
+		
+		limit = read;
+		return true;
+	}
+	
+	/**
+	 * Reads a quoted string into the text buffer, the opening quote has already been consumed.
+	 * 
+	 * @throws IOException if the input can not be read or the string is not terminated.
+	 */
+	private void readString() throws IOException {
+		textLength = 0;
+		
+		while (true) {
+			int start = pos;
+			
+			//copies every plain character in one step.
+			while (pos < limit) {
+				char ch = buffer[pos];
+				
+				if (ch == '"' || ch == '\\')
+					break;
+				
+				pos++;
+			}
+			
+			appendText(buffer, start, pos - start);
+			
+			if (pos == limit) {
+				if (!fill())
+					throw syntaxError("Unterminated string");
+				
+				continue;
+			}
+			
+			if (buffer[pos++] == '"')
+				return;
+			
+			appendText(readEscape());
+		}
+	}
+	
+	/**
+	 * Reads an escape sequence, the backslash has already been consumed.
+	 * 
+	 * @return Escaped character.
+	 * @throws IOException if the input can not be read or the sequence is not valid.
+	 */
+	private char readEscape() throws IOException {
+		int ch = nextChar();
+		
+		switch (ch) {
+			case 'b':
+				return '\b';
+			case 'f':
+				return '\f';
+			case 'n':
+				return '\n';
+			case 'r':
+				return '\r';
+			case 't':
+				return '\t';
+			case '"':
+			case '\\':
+			case '/':
+				return (char) ch;
+			case 'u':
+				int value = 0;
+				
+				for (int i = 0; i < 4; i++) {
+					int digit = Character.digit(nextChar(), 16);
+					
+					if (digit < 0)
+						throw syntaxError("Invalid unicode escape");
+					
+					value = (value << 4) | digit;
+				}
+				
+				return (char) value;
+			case -1:
+				throw syntaxError("Unterminated string");
+			default:
+				throw syntaxError("Invalid escape '\\" + (char) ch + "'");
+		}
+	}
+	
+	/**
+	 * Reads a number into the text buffer, following the JSON grammar: an optional minus sign, an
+	 * integer part without leading zeros, an optional fraction and an optional exponent.
+	 * 
+	 * @param first first character of the number, already consumed.
+	 * @return {@link JSONToken#DOUBLE} if it has a fraction or an exponent, {@link JSONToken#INTEGER} otherwise.
+	 * @throws IOException if the input can not be read or the number is not valid.
+	 */
+	private JSONToken readNumber(char first) throws IOException {
+		textLength = 0;
+		appendText(first);
+		boolean isDouble = false;
+		
+		if (first == '-') {
+			int ch = peekChar();
+			
+			if (ch < '0' || ch > '9')
+				throw syntaxError("Invalid number");
+			
+			first = buffer[pos++];
+			appendText(first);
+		}
+		
+		if (first != '0')
+			readDigits();
+		
+		if (peekChar() == '.') {
+			isDouble = true;
+			appendText(buffer[pos++]);
+			
+			if (readDigits() == 0)
+				throw syntaxError("Invalid number");
+		}
+		
+		int ch = peekChar();
+		
+		if (ch == 'e' || ch == 'E') {
+			isDouble = true;
+			appendText(buffer[pos++]);
+			ch = peekChar();
+			
+			if (ch == '-' || ch == '+')
+				appendText(buffer[pos++]);
+			
+			if (readDigits() == 0)
+				throw syntaxError("Invalid number");
+		}
+		
+		ch = peekChar();
+		
+		//a number directly followed by another number character is malformed, e.g. 01, 1-2 or 1.2.3
+		if (ch >= '0' && ch <= '9' || ch == '-' || ch == '+' || ch == '.' || ch == 'e' || ch == 'E')
+			throw syntaxError("Invalid number");
+		
+		return isDouble ? JSONToken.DOUBLE : JSONToken.INTEGER;
+	}
+	
+	/**
+	 * Reads a run of digits into the text buffer.
+	 * 
+	 * @return Amount of digits read.
+	 * @throws IOException if the input can not be read.
+	 */
+	private int readDigits() throws IOException {
+		int count = 0;
+		
+		while (true) {
+			int ch = peekChar();
+			
+			if (ch < '0' || ch > '9')
+				return count;
+			
+			appendText(buffer[pos++]);
+			count++;
+		}
+	}
+	
+	/**
+	 * Consumes the remaining characters of true, false or null.
+	 * 
+	 * @param literal expected literal, its first character has already been consumed.
+	 * @throws IOException if the input can not be read or the literal does not match.
+	 */
+	private void readLiteral(String literal) throws IOException {
+		for (int i = 1; i < literal.length(); i++) {
+			if (nextChar() != literal.charAt(i))
+				throw syntaxError("Expected " + literal);
+		}
+	}
+	
+	/**
+	 * Consumes the next character, whatever it is.
+	 * 
+	 * @return Next character, or -1 at the end of the input.
+	 * @throws IOException if the input can not be read.
+	 */
+	private int nextChar() throws IOException {
+		if (pos == limit && !fill())
+			return -1;
+		
+		return buffer[pos++];
+	}
+	
+	/**
+	 * Returns the next character without consuming it.
+	 * 
+	 * @return Next character, or -1 at the end of the input.
+	 * @throws IOException if the input can not be read.
+	 */
+	private int peekChar() throws IOException {
+		if (pos == limit && !fill())
+			return -1;
+		
+		return buffer[pos];
+	}
+	
+	/**
+	 * Appends a single character to the text buffer.
+	 * 
+	 * @param ch character to append.
+	 */
+	private void appendText(char ch) {
+		if (textLength == text.length)
+			growText(1);
+		
+		text[textLength++] = ch;
+	}
+	
+	/**
+	 * Appends a range of characters to the text buffer.
+	 * 
+	 * @param source characters to append.
+	 * @param offset first character to append.
+	 * @param length amount of characters to append.
+	 */
+	private void appendText(char[] source, int offset, int length) {
+		if (textLength + length > text.length)
+			growText(length);
+		
+		System.arraycopy(source, offset, text, textLength, length);
+		textLength += length;
+	}
+	
+	/**
+	 * Grows the text buffer.
+	 * 
+	 * @param needed amount of extra characters needed.
+	 */
+	private void growText(int needed) {
+		char[] grown = new char[Math.max(text.length * 2, textLength + needed)];
+		System.arraycopy(text, 0, grown, 0, textLength);
+		text = grown;
+	}
+	
+	/**
+	 * Builds the exception for malformed input, including the position of the tokenizer.
+	 * 
+	 * @param message description of the problem.
+	 * @return Exception to be thrown.
+	 */
+	private IOException syntaxError(String message) {
+		return new IOException(message + " at position " + getPosition());
+	}
+}
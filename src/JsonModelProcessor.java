@@ -0,0 +1,203 @@
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Map;
+import java.util.Set;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.annotation.processing.SupportedOptions;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.TypeElement;
+import javax.tools.Diagnostic;
+
+import jsonparser.JsonModel;
+
+/**
+ * <p>
+ * Annotation processor of {@link JsonModel}, generates the model classes inside javac, without the
+ * interactive program. Every stub is processed on its own ({@link ModelGenerator} on the inferred
+ * schema of its sample) and it's the only originating element of its classes, so the processor is
+ * isolating: an incremental build only processes the stubs that were recompiled.
+ * </p>
+ * <p>
+ * Processor options:
+ * </p>
+ * <ul>
+ * <li>jsonparser.samples: directory the relative sample paths are resolved against.</li>
+ * <li>jsonparser.debug: fully qualified name of the Debug helper, imported by the generated classes.</li>
+ * <li>jsonparser.storageManager: fully qualified name of the StorageManager helper, imported by the
+ * generated classes with the database methods.</li>
+ * </ul>
+ * <p>
+ * Without these options (or the matching {@link JsonModel} attributes), the helpers must be in the
+ * package of the stub, the generated code calls them unqualified.
+ * </p>
+ * 
+ * @author Lucas De Morais Cabrales
+ * @since 2026-10-17
+ */
+@SupportedAnnotationTypes("jsonparser.JsonModel")
+@SupportedOptions({ JsonModelProcessor.SAMPLES_OPTION, JsonModelProcessor.DEBUG_OPTION,
+		JsonModelProcessor.STORAGE_MANAGER_OPTION })
+public class JsonModelProcessor extends AbstractProcessor {
+	
+	/**
+	 * Processor option of the samples directory.
+	 */
+	static final String SAMPLES_OPTION = "jsonparser.samples";
+	/**
+	 * Processor option of the Debug helper.
+	 */
+	static final String DEBUG_OPTION = "jsonparser.debug";
+	/**
+	 * Processor option of the StorageManager helper.
+	 */
+	static final String STORAGE_MANAGER_OPTION = "jsonparser.storageManager";
+	/**
+	 * Suffix removed from the stub name to name the generated class.
+	 */
+	private static final String STUB_SUFFIX = "Spec";
+	
+	@Override
+	public SourceVersion getSupportedSourceVersion() {
+		return SourceVersion.latestSupported();
+	}
+	
+	@Override
+	public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+		for (Element element : roundEnv.getElementsAnnotatedWith(JsonModel.class)) {
+			if (element.getKind() != ElementKind.CLASS && element.getKind() != ElementKind.INTERFACE) {
+				error(element, "@JsonModel is only allowed on classes and interfaces");
+				continue;
+			}
+			
+			try {
+				generate((TypeElement) element);
+			} catch (IOException | RuntimeException e) {
+				error(element, "Could not generate the model: " + e);
+			}
+		}
+		
+		return true;
+	}
+	
+	/**
+	 * Generates the classes of a stub, in the package of the stub.
+	 * 
+	 * @param stub Annotated class.
+	 * @throws IOException if the sample can not be read or the classes can not be written.
+	 */
+	private void generate(TypeElement stub) throws IOException {
+		JsonModel model = stub.getAnnotation(JsonModel.class);
+		String className = getClassName(stub, model);
+		
+		if (className == null) {
+			error(stub, "@JsonModel needs a name, or a stub name ending with " + STUB_SUFFIX);
+			return;
+		}
+		
+		GeneratorOptions options = new GeneratorOptions(className);
+		options.setDatabase(model.database());
+		options.setMaster(model.master());
+		options.setIdFieldName(model.id());
+		options.setFilterFieldName(model.filter());
+		
+		for (String option : model.options()) {
+			options.setOption(option);
+		}
+		
+		String debug = getHelper(model.debug(), DEBUG_OPTION);
+		String storageManager = options.isDatabase() ? getHelper(model.storageManager(), STORAGE_MANAGER_OPTION) : "";
+		
+		for (String helper : new String[] { debug, storageManager }) {
+			if (!helper.isEmpty() && (helper.indexOf('.') < 0 || !SourceVersion.isName(helper))) {
+				error(stub, "Invalid helper class name, it must be fully qualified: " + helper);
+				return;
+			}
+		}
+		
+		Schema schema = SchemaInference.infer(getSample(model.sample()));
+		String packageName = processingEnv.getElementUtils().getPackageOf(stub).getQualifiedName().toString();
+		
+		//every class is streamed straight to its source file, nested objects have their own class.
+		Map<String, ClassCreator> creators = new ModelGenerator(options).getClassCreators(schema);
+		for (Map.Entry<String, ClassCreator> creator : creators.entrySet()) {
+			String name = packageName.isEmpty() ? creator.getKey() : packageName + "." + creator.getKey();
+			creator.getValue().setPackageName(packageName);
+			
+			if (!debug.isEmpty())
+				creator.getValue().addImport(debug);
+			
+			if (!storageManager.isEmpty())
+				creator.getValue().addImport(storageManager);
+			
+			try (Writer writer = processingEnv.getFiler().createSourceFile(name, stub).openWriter()) {
+				creator.getValue().writeClassDefinition(writer);
+			}
+		}
+	}
+	
+	/**
+	 * Retrieves the name of the generated class.
+	 * 
+	 * @param stub Annotated class.
+	 * @param model Annotation of the stub.
+	 * @return Name of the Java class, null if it can not be deduced.
+	 */
+	private String getClassName(TypeElement stub, JsonModel model) {
+		if (!model.name().isEmpty())
+			return model.name();
+		
+		String stubName = stub.getSimpleName().toString();
+		if (stubName.endsWith(STUB_SUFFIX) && stubName.length() > STUB_SUFFIX.length())
+			return stubName.substring(0, stubName.length() - STUB_SUFFIX.length());
+		
+		return null;
+	}
+	
+	/**
+	 * Retrieves the fully qualified name of a helper class called by the generated code.
+	 * 
+	 * @param attribute Name set in the annotation, empty if none.
+	 * @param option Processor option of the helper.
+	 * @return Name of the helper class, empty if it isn't set.
+	 */
+	private String getHelper(String attribute, String option) {
+		if (!attribute.isEmpty())
+			return attribute;
+		
+		String name = processingEnv.getOptions().get(option);
+		return name == null ? "" : name.trim();
+	}
+	
+	/**
+	 * Resolves the path of a sample.
+	 * 
+	 * @param sample Path of the sample, as written in the annotation.
+	 * @return Path of the sample file.
+	 */
+	private Path getSample(String sample) {
+		String samplesDir = processingEnv.getOptions().get(SAMPLES_OPTION);
+		Path path = Paths.get(sample);
+		
+		if (path.isAbsolute() || samplesDir == null)
+			return path;
+		
+		return Paths.get(samplesDir).resolve(path);
+	}
+	
+	/**
+	 * Reports a compilation error on an element.
+	 * 
+	 * @param element Element of the error.
+	 * @param message Error message.
+	 */
+	private void error(Element element, String message) {
+		processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, message, element);
+	}
+}
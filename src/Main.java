@@ -1,4 +1,12 @@
-import java.util.Scanner;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Map;
 
 /**
  * <p>
@@ -13,7 +21,31 @@ import java.util.Scanner;
  * <ul> 
  * <li>Class name</li>
  * <li>Whether to generate database definitions</li>
- * <li>Properly formatted unnamed JSON object (starting and ending with brackets, one field per line).</li>
+ * <li>Unnamed JSON object (starting and ending with brackets), or an array of JSON objects, 
+ * in any format, even minified in a single line.</li>
+ * </ul>
+ * </p>
+ * <p>
+ * Program arguments:
+ * <ul>
+ * <li>--samples &lt;file&gt;: infers the class from every JSON object of the file (NDJSON) instead of
+ * asking for a single JSON object. The file is memory-mapped, it can be larger than 2 GB.</li>
+ * <li>--threads &lt;n&gt;: amount of threads used to infer the samples or to generate the batch, 
+ * every core by default.</li>
+ * <li>--batch &lt;dir|manifest&gt;: non-interactive generation of many classes, see {@link BatchGenerator}.</li>
+ * <li>--out &lt;dir&gt;: directory where the batch classes are written, the current directory by default.</li>
+ * <li>--force: generates every batch class again, ignoring the cache of the previous runs, 
+ * see {@link GenerationCache}.</li>
+ * <li>--daemon: runs the generator daemon, which keeps a warm JVM to serve the clients, see 
+ * {@link GeneratorServer}. It stops after --idle &lt;seconds&gt; without requests (600 by default).</li>
+ * <li>--connect: generates the --samples file through the daemon, which is started if it isn't 
+ * running. The class name is given by --class &lt;name&gt; and the classes are written to --out.</li>
+ * <li>--stop: stops the daemon.</li>
+ * <li>--port &lt;n&gt;: loopback port of the daemon, 7345 by default.</li>
+ * <li>--metrics &lt;file&gt;: instruments the generation and writes a timing report of every stage to the file,
+ * as CSV if its name ends with .csv, JSON otherwise. See {@link Metrics}.</li>
+ * <li>--&lt;option&gt;: any other option accepted by {@link GeneratorOptions#setOption(String)}, 
+ * e.g. --jsonreader, it's added to the interactive class and to every batch class.</li>
  * </ul>
  * </p>
  * <p>
@@ -32,73 +64,146 @@ import java.util.Scanner;
  */
 public class Main {
 
-	public static void main(String[] args) {
-		// TODO Auto-generated method stub
-
-		Scanner in = new Scanner(System.in);
+	public static void main(String[] args) throws IOException, InterruptedException {
+		String samplesPath = null;
+		String batchPath = null;
+		String outputPath = ".";
+		String metricsPath = null;
+		boolean isForce = false;
+		String mode = null;
+		String className = null;
+		int port = GeneratorServer.DEFAULT_PORT;
+		long idleSeconds = 600;
+		int threads = Runtime.getRuntime().availableProcessors();
+		ArrayList<String> extraOptions = new ArrayList<>();
+		
+		for (int i = 0; i < args.length; i++) {
+			if (args[i].equals("--samples") && i + 1 < args.length)
+				samplesPath = args[++i];
+			else if (args[i].equals("--threads") && i + 1 < args.length)
+				threads = Integer.parseInt(args[++i]);
+			else if (args[i].equals("--batch") && i + 1 < args.length)
+				batchPath = args[++i];
+			else if (args[i].equals("--out") && i + 1 < args.length)
+				outputPath = args[++i];
+			else if (args[i].equals("--metrics") && i + 1 < args.length)
+				metricsPath = args[++i];
+			else if (args[i].equals("--force"))
+				isForce = true;
+			else if (args[i].equals("--daemon") || args[i].equals("--connect") || args[i].equals("--stop"))
+				mode = args[i].substring(2);
+			else if (args[i].equals("--class") && i + 1 < args.length)
+				className = args[++i];
+			else if (args[i].equals("--port") && i + 1 < args.length)
+				port = Integer.parseInt(args[++i]);
+			else if (args[i].equals("--idle") && i + 1 < args.length)
+				idleSeconds = Long.parseLong(args[++i]);
+			else if (args[i].startsWith("--"))
+				extraOptions.add(args[i].substring(2));
+		}
+		
+		Metrics.setEnabled(metricsPath != null);
+		
+		if ("daemon".equals(mode)) {
+			new GeneratorServer(port, idleSeconds * 1000, threads).run();
+			return;
+		} else if ("stop".equals(mode)) {
+			System.out.println(new GeneratorClient(port).stop() ? "Daemon stopped." : "Daemon not running.");
+			return;
+		} else if ("connect".equals(mode)) {
+			if (samplesPath == null || className == null)
+				throw new IllegalArgumentException("--connect requires --samples <file> and --class <name>");
+			
+			//the sample is generated by the warm daemon, this JVM only writes the files.
+			Path outputDir = Paths.get(outputPath);
+			Files.createDirectories(outputDir);
+			
+			for (Map.Entry<String, String> generated : new GeneratorClient(port)
+					.generate(className, extraOptions, Paths.get(samplesPath)).entrySet()) {
+				Path file = outputDir.resolve(generated.getKey() + ".java");
+				Files.write(file, generated.getValue().getBytes(StandardCharsets.UTF_8));
+				System.out.println(file);
+			}
+			return;
+		}
+		
+		if (batchPath != null) {
+			//non-interactive, every class is written to its own file.
+			BatchGenerator batch = new BatchGenerator(Paths.get(outputPath), threads, extraOptions);
+			batch.setForce(isForce);
+			System.out.println(batch.run(Paths.get(batchPath)));
+			
+			if (metricsPath != null)
+				Metrics.writeReport(Paths.get(metricsPath));
+			return;
+		}
+		
+		//the same reader is used for the prompts and the JSON object, so no input gets buffered away.
+		BufferedReader in = new BufferedReader(new InputStreamReader(System.in));
 		
 		System.out.print("Class Name: ");
-		String className = in.nextLine(); //retrieves Java class name.
+		GeneratorOptions options = new GeneratorOptions(in.readLine()); //retrieves Java class name.
+		
+		for (String option : extraOptions) {
+			options.setOption(option);
+		}
 		
 		System.out.print("Database? (Y/N): ");
 		//whether the program outputs the database methods
-		boolean isDatabase = in.nextLine().equalsIgnoreCase("Y"); 
+		options.setDatabase(in.readLine().equalsIgnoreCase("Y")); 
 		
 		System.out.print("Master? (Y/N): ");
 		//whether the program outputs the database methods
-		boolean isMaster = in.nextLine().equalsIgnoreCase("Y");
+		options.setMaster(in.readLine().equalsIgnoreCase("Y"));
 		
 		System.out.print("Specify filter field (optional): ");
 		//whether the program outputs the database methods
-		String filterFieldName = in.nextLine();
+		options.setFilterFieldName(in.readLine());
 		
 		System.out.print("Specify ID field (optional): ");
 		//whether the program outputs the database methods
-		String idFieldName = in.nextLine();
+		options.setIdFieldName(in.readLine());
 		
-		JSONParser parser = new JSONParser(className);
+		Schema schema;
+		Metrics.setModel(options.getClassName());
+		Metrics.Sample tokenize = Metrics.start(Metrics.Stage.TOKENIZE);
 		
-		//JSON object HAS to be formatted in order for this to work.
-		System.out.print("JSON: ");
-		
-		String parsedFields = "";
-		String currentLine = in.nextLine().trim();
-		
-		//Parse all of the JSON lines.
-		while (!currentLine.contains("}")){
-			if (!currentLine.equals("{")) {
-				parsedFields += parser.parseLine(currentLine, idFieldName);
-			}
+		if (samplesPath != null) {
+			//the samples are streamed, only the merged schema is kept in memory.
+			schema = SchemaInference.inferParallel(Paths.get(samplesPath), threads);
 			
-			currentLine = in.nextLine().trim();
-		}
-		
-		String json = parser.getMethodDefinition(parsedFields); //fromJson() method
-		String variables = parser.getVariablesDefinition(); //class variables
-		
-		ClassCreator creator;
-		
-		if (isDatabase) {
-			//database definition is included
+			System.out.println("Inferred " + schema.getFields().size() + " fields from "
+					+ schema.getRecords() + " records.");
+		} else {
+			System.out.print("JSON: ");
+			
+			//Parse all of the JSON fields, reading stops right after the object or array ends.
+			schema = new Schema();
+			JSONTokenizer tokenizer = new JSONTokenizer(in);
 			
-			DatabaseGenerator dbGenerator = new DatabaseGenerator(className, parser.getVariables());
-			String tableHeaders = dbGenerator.getTableDefinition();
-			String database = dbGenerator.getMethodsDefinition(isMaster, idFieldName, filterFieldName);
+			if (!SchemaInference.readDocument(tokenizer, schema))
+				throw new IOException("Expected a JSON object or array of objects");
 			
-			creator = new ClassCreator(className, tableHeaders, variables, json, database);
-		} else
-			creator = new ClassCreator(className, variables, json);
+			Metrics.add(Metrics.Counter.TOKENS, tokenizer.getTokenCount());
+			Metrics.add(Metrics.Counter.INPUT_CHARS, tokenizer.getPosition());
+		}
 		
-		String completeClass = creator.getClassDefinition(); //full Java class definition
+		Metrics.stop(tokenize);
 		
-		System.out.println();
-		System.out.println("======== COPY BELOW =======");
-		System.out.println();
-		System.out.println(completeClass);
-		System.out.println();
-		System.out.println("======== COPY ABOVE =======");
+		//full Java class definitions, nested objects have their own class.
+		for (String completeClass : new ModelGenerator(options).generateAll(schema).values()) {
+			System.out.println();
+			System.out.println("======== COPY BELOW =======");
+			System.out.println();
+			System.out.println(completeClass);
+			System.out.println();
+			System.out.println("======== COPY ABOVE =======");
+		}
 		
 		in.close();
+		
+		if (metricsPath != null)
+			Metrics.writeReport(Paths.get(metricsPath));
 	}
 
 }
@@ -0,0 +1,134 @@
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+
+/**
+ * <p>
+ * Tokenizer over a range of a memory-mapped UTF-8 file, the bytes are decoded straight into
+ * the tokenizer buffer, without a Reader and without a String per line.
+ * </p>
+ * <p>
+ * The range is mapped through consecutive windows, so files larger than 2 GB are supported.
+ * </p>
+ * 
+ * @author Lucas De Morais Cabrales
+ * @since 2026-10-17
+ */
+public class MappedFileTokenizer extends JSONTokenizer {
+	
+	/**
+	 * Maximum size of each mapped window.
+	 */
+	private static final long WINDOW_SIZE = 256L << 20;
+	/**
+	 * Character used for malformed UTF-8 sequences.
+	 */
+	private static final char REPLACEMENT = '\uFFFD';
+	
+	/**
+	 * Mapped file.
+	 */
+	private final FileChannel channel;
+	/**
+	 * End of the range (exclusive).
+	 */
+	private final long end;
+	/**
+	 * Current mapped window.
+	 */
+	private MappedByteBuffer window;
+	/**
+	 * Position in the file of the first byte of the window.
+	 */
+	private long windowStart;
+	
+	/**
+	 * Constructor of the class.
+	 * 
+	 * @param channel file to read, it is only mapped so it can be shared between tokenizers.
+	 * @param start first byte of the range.
+	 * @param end end of the range (exclusive).
+	 */
+	public MappedFileTokenizer(FileChannel channel, long start, long end) {
+		this.channel = channel;
+		this.end = end;
+		this.windowStart = start;
+	}
+	
+	@Override
+	protected int read(char[] buf, int off, int len) throws IOException {
+		int written = 0;
+		
+		while (written < len) {
+			if (!ensureMapped(1))
+				break;
+			
+			int b = window.get();
+			
+			if (b >= 0) {
+				//ASCII, the most common case.
+				buf[off + written++] = (char) b;
+				continue;
+			}
+			
+			int extra = (b & 0xE0) == 0xC0 ? 1 : (b & 0xF0) == 0xE0 ? 2 : (b & 0xF8) == 0xF0 ? 3 : -1;
+			
+			if (extra < 0) {
+				buf[off + written++] = REPLACEMENT;
+				continue;
+			}
+			
+			if (extra == 3 && len - written < 2) {
+				//the surrogate pair does not fit, it's read on the next call.
+				window.position(window.position() - 1);
+				break;
+			}
+			
+			window.position(window.position() - 1);
+			
+			if (!ensureMapped(extra + 1)) {
+				//truncated sequence at the end of the range.
+				window.position(window.limit());
+				buf[off + written++] = REPLACEMENT;
+				continue;
+			}
+			
+			int codePoint = window.get() & (0x3F >> extra);
+			
+			for (int i = 0; i < extra; i++) {
+				codePoint = (codePoint << 6) | (window.get() & 0x3F);
+			}
+			
+			if (codePoint >= Character.MIN_SUPPLEMENTARY_CODE_POINT) {
+				buf[off + written++] = Character.highSurrogate(codePoint);
+				buf[off + written++] = Character.lowSurrogate(codePoint);
+			} else {
+				buf[off + written++] = (char) codePoint;
+			}
+		}
+		
+		return written == 0 && len > 0 ? -1 : written;
+	}
+	
+	/**
+	 * Makes sure the current window has the needed bytes, mapping the next window if it doesn't.
+	 * 
+	 * @param needed amount of bytes needed.
+	 * @return false if the range has less bytes left than needed.
+	 * @throws IOException if the file can not be mapped.
+	 */
+	private boolean ensureMapped(int needed) throws IOException {
+		if (window != null && window.remaining() >= needed)
+			return true;
+		
+		long position = window == null ? windowStart : windowStart + window.position();
+		
+		if (end - position < needed)
+			return false;
+		
+		window = channel.map(FileChannel.MapMode.READ_ONLY, position, Math.min(WINDOW_SIZE, end - position));
+		windowStart = position;
+		
+		return true;
+	}
+}
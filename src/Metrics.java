@@ -0,0 +1,483 @@
+import java.io.IOException;
+import java.io.Writer;
+import java.lang.management.ManagementFactory;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * <p>
+ * Instrumentation of the generation pipeline, disabled by default. Once enabled (--metrics argument),
+ * every stage records its latency and the bytes it allocated, and the counters of the pipeline are
+ * updated. The report is written as JSON, or as CSV when the file name ends with .csv:
+ * </p>
+ * <ul>
+ * <li>Stages: count, total/min/max latency, p50/p90/p99 and a latency histogram with power of two
+ * buckets (each bucket counts the samples up to its upper bound, in nanoseconds), allocated bytes.</li>
+ * <li>Counters: fields, tokens, input and output characters.</li>
+ * <li>Models: latency and allocated bytes of every stage, by generated class.</li>
+ * </ul>
+ * <p>
+ * The stages can be nested (e.g. the database methods are emitted while the class is assembled),
+ * so their latencies are inclusive. The allocations are only measured on JVMs that provide the
+ * allocation counter of the threads.
+ * </p>
+ * 
+ * @author Lucas De Morais Cabrales
+ * @since 2026-10-17
+ */
+public class Metrics {
+	
+	/**
+	 * Instrumented stages of the pipeline.
+	 */
+	public enum Stage {
+		/**
+		 * Reading and tokenizing of the whole input of a class (JSON object or samples file).
+		 */
+		TOKENIZE("tokenize"),
+		/**
+		 * Type inference of a single record (top level JSON value) of the input.
+		 */
+		INFERENCE("inference"),
+		/**
+		 * Generation of the parsing code of a single field.
+		 */
+		PARSE_FIELD("parseField"),
+		/**
+		 * Emission of the table definition or of the database methods of a class.
+		 */
+		DATABASE("database"),
+		/**
+		 * Assembly of a full class.
+		 */
+		CLASS_CREATOR("classCreator");
+		
+		/**
+		 * Name of the stage in the report.
+		 */
+		private final String reportName;
+		
+		Stage(String reportName) {
+			this.reportName = reportName;
+		}
+	}
+	
+	/**
+	 * Counters of the pipeline.
+	 */
+	public enum Counter {
+		/**
+		 * Class variables generated from the JSON fields.
+		 */
+		FIELDS("fields"),
+		/**
+		 * Tokens read from the input.
+		 */
+		TOKENS("tokens"),
+		/**
+		 * Characters read from the input, the same as the bytes for ASCII input.
+		 */
+		INPUT_CHARS("inputChars"),
+		/**
+		 * Characters of the generated classes.
+		 */
+		OUTPUT_CHARS("outputChars");
+		
+		/**
+		 * Name of the counter in the report.
+		 */
+		private final String reportName;
+		
+		Counter(String reportName) {
+			this.reportName = reportName;
+		}
+	}
+	
+	/**
+	 * Measure in progress of a stage, created by {@link Metrics#start(Stage)}.
+	 */
+	public static class Sample {
+		
+		private final Stage stage;
+		private final String model;
+		private final long startNanos;
+		private final long startAllocated;
+		
+		Sample(Stage stage, String model, long startNanos, long startAllocated) {
+			this.stage = stage;
+			this.model = model;
+			this.startNanos = startNanos;
+			this.startAllocated = startAllocated;
+		}
+	}
+	
+	/**
+	 * Statistics of a stage.
+	 */
+	private static class StageStats {
+		
+		private final LongAdder count = new LongAdder();
+		private final LongAdder totalNanos = new LongAdder();
+		private final AtomicLong minNanos = new AtomicLong(Long.MAX_VALUE);
+		private final AtomicLong maxNanos = new AtomicLong();
+		private final LongAdder allocated = new LongAdder();
+		/**
+		 * Samples by power of two bucket, bucket i holds the latencies below 2^i nanoseconds.
+		 */
+		private final AtomicLongArray histogram = new AtomicLongArray(64);
+		
+		void add(long nanos, long allocatedBytes) {
+			count.increment();
+			totalNanos.add(nanos);
+			minNanos.accumulateAndGet(nanos, Math::min);
+			maxNanos.accumulateAndGet(nanos, Math::max);
+			allocated.add(allocatedBytes);
+			histogram.incrementAndGet(Math.min(63, 64 - Long.numberOfLeadingZeros(nanos)));
+		}
+		
+		/**
+		 * Retrieves the upper bound of the bucket holding a percentile.
+		 * 
+		 * @param percentile percentile, from 0 to 1.
+		 * @return latency in nanoseconds, 0 if there are no samples.
+		 */
+		long getPercentile(double percentile) {
+			long target = (long) Math.ceil(count.sum() * percentile);
+			long seen = 0;
+			
+			for (int i = 0; i < 64; i++) {
+				seen += histogram.get(i);
+				if (seen >= target && seen > 0)
+					return Math.min(1L << i, maxNanos.get());
+			}
+			
+			return 0;
+		}
+	}
+	
+	/**
+	 * Whether the pipeline is instrumented, it is only changed before the generation starts.
+	 */
+	private static boolean enabled;
+	/**
+	 * Statistics of every stage.
+	 */
+	private static final StageStats[] STAGES = new StageStats[Stage.values().length];
+	/**
+	 * Value of every counter.
+	 */
+	private static final LongAdder[] COUNTERS = new LongAdder[Counter.values().length];
+	/**
+	 * Statistics of every stage by generated class.
+	 */
+	private static final Map<String, StageStats[]> MODELS = new ConcurrentHashMap<>();
+	/**
+	 * Generated class of the current thread, empty when it is unknown.
+	 */
+	private static final ThreadLocal<String> MODEL = ThreadLocal.withInitial(() -> "");
+	/**
+	 * Allocation counter of the threads, null if the JVM doesn't provide it.
+	 */
+	private static com.sun.management.ThreadMXBean threads;
+	
+	static {
+		reset();
+	}
+	
+	/**
+	 * Enables or disables the instrumentation, it must be called before the generation starts.
+	 * 
+	 * @param isEnabled whether the stages and counters are recorded.
+	 */
+	public static void setEnabled(boolean isEnabled) {
+		if (isEnabled && threads == null) {
+			java.lang.management.ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+			if (bean instanceof com.sun.management.ThreadMXBean
+					&& ((com.sun.management.ThreadMXBean) bean).isThreadAllocatedMemorySupported()) {
+				threads = (com.sun.management.ThreadMXBean) bean;
+				threads.setThreadAllocatedMemoryEnabled(true);
+			}
+		}
+		
+		enabled = isEnabled;
+	}
+	
+	/**
+	 * Whether the pipeline is instrumented.
+	 * 
+	 * @return true if the stages and counters are recorded.
+	 */
+	public static boolean isEnabled() {
+		return enabled;
+	}
+	
+	/**
+	 * Discards every recorded statistic.
+	 */
+	public static void reset() {
+		StageStats[] stats = newStageStats();
+		System.arraycopy(stats, 0, STAGES, 0, stats.length);
+		
+		for (int i = 0; i < COUNTERS.length; i++)
+			COUNTERS[i] = new LongAdder();
+		
+		MODELS.clear();
+	}
+	
+	/**
+	 * Sets the generated class of the current thread, its stages are also recorded by class.
+	 * 
+	 * @param className name of the class, empty or null when the thread is done with it.
+	 */
+	public static void setModel(String className) {
+		if (className == null || className.isEmpty())
+			MODEL.remove();
+		else
+			MODEL.set(className);
+	}
+	
+	/**
+	 * Starts measuring a stage in the current thread.
+	 * 
+	 * @param stage measured stage.
+	 * @return measure in progress, null if the instrumentation is disabled.
+	 */
+	public static Sample start(Stage stage) {
+		if (!enabled)
+			return null;
+		
+		return new Sample(stage, MODEL.get(), System.nanoTime(), getAllocatedBytes());
+	}
+	
+	/**
+	 * Records the latency and the allocations of a stage, since it was started.
+	 * 
+	 * @param sample measure in progress, nothing is recorded if it is null.
+	 */
+	public static void stop(Sample sample) {
+		if (sample == null)
+			return;
+		
+		long nanos = System.nanoTime() - sample.startNanos;
+		long allocated = Math.max(0, getAllocatedBytes() - sample.startAllocated);
+		
+		STAGES[sample.stage.ordinal()].add(nanos, allocated);
+		
+		if (!sample.model.isEmpty())
+			MODELS.computeIfAbsent(sample.model, key -> newStageStats())[sample.stage.ordinal()].add(nanos, allocated);
+	}
+	
+	/**
+	 * Adds to a counter.
+	 * 
+	 * @param counter updated counter.
+	 * @param value amount to add.
+	 */
+	public static void add(Counter counter, long value) {
+		if (enabled)
+			COUNTERS[counter.ordinal()].add(value);
+	}
+	
+	/**
+	 * Writes the report of every recorded statistic.
+	 * 
+	 * @param file destination of the report, it is written as CSV if its name ends with .csv, JSON otherwise.
+	 * @throws IOException if the report can not be written.
+	 */
+	public static void writeReport(Path file) throws IOException {
+		try (Writer writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+			if (file.getFileName().toString().toLowerCase().endsWith(".csv"))
+				writer.write(getCsvReport());
+			else
+				writer.write(getJsonReport());
+		}
+	}
+	
+	/**
+	 * Retrieves the report as a JSON object.
+	 * 
+	 * @return Report in plain text.
+	 */
+	public static String getJsonReport() {
+		StringBuilder json = new StringBuilder("{\n  \"stages\": {");
+		
+		for (Stage stage : Stage.values()) {
+			StageStats stats = STAGES[stage.ordinal()];
+			json.append(stage.ordinal() == 0 ? "\n" : ",\n").append("    \"").append(stage.reportName).append("\": {");
+			appendStats(json, stats);
+			json.append(", \"p50Nanos\": ").append(stats.getPercentile(0.5))
+				.append(", \"p90Nanos\": ").append(stats.getPercentile(0.9))
+				.append(", \"p99Nanos\": ").append(stats.getPercentile(0.99))
+				.append(", \"histogram\": [");
+			
+			boolean first = true;
+			for (int i = 0; i < 64; i++) {
+				long count = stats.histogram.get(i);
+				if (count > 0) {
+					json.append(first ? "" : ", ").append("{\"leNanos\": ").append(1L << i).append(", \"count\": ")
+						.append(count).append("}");
+					first = false;
+				}
+			}
+			
+			json.append("]}");
+		}
+		
+		json.append("\n  },\n  \"counters\": {");
+		
+		for (Counter counter : Counter.values()) {
+			json.append(counter.ordinal() == 0 ? "\n" : ",\n").append("    \"").append(counter.reportName)
+				.append("\": ").append(COUNTERS[counter.ordinal()].sum());
+		}
+		
+		json.append("\n  },\n  \"models\": {");
+		
+		boolean firstModel = true;
+		for (Map.Entry<String, StageStats[]> model : new TreeMap<>(MODELS).entrySet()) {
+			json.append(firstModel ? "\n" : ",\n").append("    \"").append(escape(model.getKey())).append("\": {");
+			firstModel = false;
+			
+			boolean first = true;
+			for (Stage stage : Stage.values()) {
+				StageStats stats = model.getValue()[stage.ordinal()];
+				if (stats.count.sum() == 0)
+					continue;
+				
+				json.append(first ? "" : ", ").append("\"").append(stage.reportName).append("\": {");
+				appendStats(json, stats);
+				json.append("}");
+				first = false;
+			}
+			
+			json.append("}");
+		}
+		
+		return json.append(firstModel ? "}\n}\n" : "\n  }\n}\n").toString();
+	}
+	
+	/**
+	 * Retrieves the report as CSV, one value per row: section,name,metric,value.
+	 * E.g.: stage,tokenize,totalNanos,1200
+	 * 
+	 * @return Report in plain text.
+	 */
+	public static String getCsvReport() {
+		StringBuilder csv = new StringBuilder("section,name,metric,value\n");
+		
+		for (Stage stage : Stage.values()) {
+			StageStats stats = STAGES[stage.ordinal()];
+			appendCsvStats(csv, "stage", stage.reportName, stats);
+			appendCsvRow(csv, "stage", stage.reportName, "p50Nanos", stats.getPercentile(0.5));
+			appendCsvRow(csv, "stage", stage.reportName, "p90Nanos", stats.getPercentile(0.9));
+			appendCsvRow(csv, "stage", stage.reportName, "p99Nanos", stats.getPercentile(0.99));
+			
+			for (int i = 0; i < 64; i++) {
+				long count = stats.histogram.get(i);
+				if (count > 0)
+					appendCsvRow(csv, "histogram", stage.reportName, "le" + (1L << i), count);
+			}
+		}
+		
+		for (Counter counter : Counter.values())
+			appendCsvRow(csv, "counter", counter.reportName, "value", COUNTERS[counter.ordinal()].sum());
+		
+		for (Map.Entry<String, StageStats[]> model : new TreeMap<>(MODELS).entrySet()) {
+			for (Stage stage : Stage.values()) {
+				StageStats stats = model.getValue()[stage.ordinal()];
+				if (stats.count.sum() > 0)
+					appendCsvStats(csv, "model", model.getKey() + "/" + stage.reportName, stats);
+			}
+		}
+		
+		return csv.toString();
+	}
+	
+	/**
+	 * Appends the statistics of a stage as the members of a JSON object.
+	 * 
+	 * @param json report being built.
+	 * @param stats statistics of the stage.
+	 */
+	private static void appendStats(StringBuilder json, StageStats stats) {
+		long count = stats.count.sum();
+		
+		json.append("\"count\": ").append(count)
+			.append(", \"totalNanos\": ").append(stats.totalNanos.sum())
+			.append(", \"minNanos\": ").append(count == 0 ? 0 : stats.minNanos.get())
+			.append(", \"maxNanos\": ").append(stats.maxNanos.get())
+			.append(", \"allocatedBytes\": ").append(stats.allocated.sum());
+	}
+	
+	/**
+	 * Appends the statistics of a stage as CSV rows.
+	 * 
+	 * @param csv report being built.
+	 * @param section section of the rows.
+	 * @param name name of the stage.
+	 * @param stats statistics of the stage.
+	 */
+	private static void appendCsvStats(StringBuilder csv, String section, String name, StageStats stats) {
+		long count = stats.count.sum();
+		
+		appendCsvRow(csv, section, name, "count", count);
+		appendCsvRow(csv, section, name, "totalNanos", stats.totalNanos.sum());
+		appendCsvRow(csv, section, name, "minNanos", count == 0 ? 0 : stats.minNanos.get());
+		appendCsvRow(csv, section, name, "maxNanos", stats.maxNanos.get());
+		appendCsvRow(csv, section, name, "allocatedBytes", stats.allocated.sum());
+	}
+	
+	/**
+	 * Appends a CSV row, the name is quoted if it contains a comma or a quote.
+	 * 
+	 * @param csv report being built.
+	 * @param section section of the row.
+	 * @param name name of the stage, counter or model.
+	 * @param metric name of the value.
+	 * @param value value of the row.
+	 */
+	private static void appendCsvRow(StringBuilder csv, String section, String name, String metric, long value) {
+		if (name.indexOf(',') >= 0 || name.indexOf('"') >= 0)
+			name = "\"" + name.replace("\"", "\"\"") + "\"";
+		
+		csv.append(section).append(',').append(name).append(',').append(metric).append(',').append(value).append('\n');
+	}
+	
+	/**
+	 * Escapes a JSON string.
+	 * 
+	 * @param value text to escape.
+	 * @return Escaped text, without the quotes.
+	 */
+	private static String escape(String value) {
+		return value.replace("\\", "\\\\").replace("\"", "\\\"");
+	}
+	
+	/**
+	 * Creates the statistics of every stage.
+	 * 
+	 * @return Empty statistics.
+	 */
+	private static StageStats[] newStageStats() {
+		StageStats[] stats = new StageStats[Stage.values().length];
+		for (int i = 0; i < stats.length; i++)
+			stats[i] = new StageStats();
+		
+		return stats;
+	}
+	
+	/**
+	 * Retrieves the bytes allocated by the current thread since it started.
+	 * 
+	 * @return Allocated bytes, 0 if the JVM doesn't provide the allocation counter.
+	 */
+	private static long getAllocatedBytes() {
+		return threads == null ? 0 : threads.getThreadAllocatedBytes(Thread.currentThread().getId());
+	}
+}
@@ -0,0 +1,187 @@
+import java.io.IOException;
+import java.io.Writer;
+import java.util.LinkedHashMap;
+
+/**
+ * Runs the whole generation of a class from its inferred schema:
+ * {@link JSONParser} -> {@link DatabaseGenerator} (optional) -> {@link ClassCreator}.
+ * 
+ * @author Lucas De Morais Cabrales
+ * @since 2026-10-17
+ */
+public class ModelGenerator {
+	
+	/**
+	 * Options of the generated class.
+	 */
+	private GeneratorOptions options;
+	
+	/**
+	 * Constructor of the class.
+	 * 
+	 * @param options Options of the generated class.
+	 */
+	public ModelGenerator(GeneratorOptions options) {
+		this.options = options;
+	}
+	
+	/**
+	 * Generates the full class definition.
+	 * 
+	 * @param schema Merged schema of the JSON samples.
+	 * @return Full class definition in plain text.
+	 */
+	public String generate(Schema schema) {
+		return getClassCreator(options.getClassName(), schema, false, null).getClassDefinition(); //full Java class definition
+	}
+	
+	/**
+	 * Generates the full class definition of the model and of every nested object.
+	 * 
+	 * @param schema Merged schema of the JSON samples.
+	 * @return Class definitions in plain text by class name, the model being the first one.
+	 */
+	public LinkedHashMap<String, String> generateAll(Schema schema) {
+		LinkedHashMap<String, ClassCreator> creators = getClassCreators(schema);
+		LinkedHashMap<String, String> classes = new LinkedHashMap<>();
+		
+		for (String name : creators.keySet())
+			classes.put(name, creators.get(name).getClassDefinition());
+		
+		return classes;
+	}
+	
+	/**
+	 * Streams the full class definition to a Writer, without keeping it in memory.
+	 * 
+	 * @param schema Merged schema of the JSON samples.
+	 * @param writer destination of the class definition.
+	 * @throws IOException if the class can not be written.
+	 */
+	public void generate(Schema schema, Writer writer) throws IOException {
+		getClassCreator(options.getClassName(), schema, false, null).writeClassDefinition(writer);
+	}
+	
+	/**
+	 * Prepares the class creators of the model and of every nested object, by class name.
+	 * 
+	 * @param schema Merged schema of the JSON samples.
+	 * @return Class creators by class name, the model being the first one.
+	 */
+	public LinkedHashMap<String, ClassCreator> getClassCreators(Schema schema) {
+		LinkedHashMap<String, ClassCreator> creators = new LinkedHashMap<>();
+		getClassCreator(options.getClassName(), schema, false, creators);
+		return creators;
+	}
+	
+	/**
+	 * Prepares the class creator, every part of the class is appended to the same output when
+	 * the class is assembled.
+	 * 
+	 * @param className Java class name.
+	 * @param schema Merged schema of the JSON samples, or of the nested object.
+	 * @param isChild whether the class belongs to a nested object.
+	 * @param creators destination of the class creators of the nested objects, or null to skip them.
+	 * @return Class creator of the full class.
+	 */
+	private ClassCreator getClassCreator(String className, Schema schema, boolean isChild, 
+			LinkedHashMap<String, ClassCreator> creators) {
+		JSONParser parser = new JSONParser(className);
+		
+		parser.setPrimitive(options.isPrimitive());
+		parser.setEnums(options.getEnumValues(), isChild ? "" : options.getFilterFieldName());
+		parser.addFields(schema, isChild ? "" : options.getIdFieldName());
+		
+		if (creators != null)
+			creators.put(className, null); //keeps the model first
+		
+		boolean hasArrays = false;
+		boolean hasChildren = false;
+		for (Variable v : parser.getVariables()) {
+			hasArrays |= v.getType() == ValueType.ARRAY;
+			hasChildren |= v.hasChildClass();
+			
+			if (creators != null && v.hasChildClass())
+				getClassCreator(v.getChildClassName(), v.getChildSchema(), true, creators);
+		}
+		
+		//list parsers are generated when the samples were arrays, nested objects are parsed from their parent.
+		boolean isList = options.isList() || schema.isArray() || isChild;
+		CodeSection json = out -> {
+			parser.writeMethodDefinition(out); //fromJson() method
+			
+			if (options.isJsonReader())
+				parser.writeReaderMethodDefinition(out);
+			
+			if (isList) {
+				parser.writeListMethodDefinition(out);
+				
+				if (options.isJsonReader())
+					parser.writeReaderListMethodDefinition(out);
+			}
+			
+			if (options.isBinary())
+				new BinaryGenerator(className, parser.getVariables()).writeMethodsDefinition(out);
+		};
+		CodeSection variables = parser::writeVariablesDefinition; //class variables
+		ClassCreator creator;
+		
+		if (options.isDatabase()) {
+			//database definition is included
+			
+			DatabaseGenerator dbGenerator = new DatabaseGenerator(className, parser.getVariables());
+			dbGenerator.setChild(isChild);
+			dbGenerator.setColumnar(options.isColumnar() && !isChild);
+			CodeSection tableHeaders = out -> dbGenerator.writeTableDefinition(out, 
+					isChild ? "" : options.getIdFieldName(), isChild ? "" : options.getFilterFieldName());
+			CodeSection database = out -> dbGenerator.writeMethodsDefinition(out, options.isMaster() && !isChild, 
+					isChild ? "" : options.getIdFieldName(), isChild ? "" : options.getFilterFieldName(), options.getCacheSize());
+			
+			creator = new ClassCreator(className, tableHeaders, variables, json, database);
+		} else
+			creator = new ClassCreator(className, variables, json);
+		
+		if (isList || hasArrays) {
+			creator.addImport("org.json.JSONArray");
+			creator.addImport("java.util.ArrayList");
+		}
+		
+		if (options.isDatabase() && (isChild || hasChildren))
+			creator.addImport("java.util.HashMap");
+		
+		if (options.isDatabase() && !isChild) {
+			//addAll() uses a compiled statement inside a transaction.
+			creator.addImport("android.database.sqlite.SQLiteDatabase");
+			creator.addImport("android.database.sqlite.SQLiteStatement");
+			creator.addImport("android.database.SQLException");
+			creator.addImport("java.util.List");
+			creator.addImport("android.database.DatabaseUtils");
+			
+			//the cache is keyed by the id of a master entity.
+			if (options.getCacheSize() > 0 && options.isMaster() && !options.getIdFieldName().isEmpty()) {
+				creator.addImport("android.util.LruCache");
+				creator.addImport("java.util.concurrent.atomic.AtomicInteger");
+			}
+		}
+		
+		if (options.isBinary()) {
+			creator.addImport("java.io.DataInput");
+			creator.addImport("java.io.DataOutput");
+			creator.addImport("java.io.IOException");
+			creator.addImport("java.nio.charset.StandardCharsets");
+			creator.addImport("java.util.ArrayList");
+			creator.addImport("java.util.List");
+		}
+		
+		if (options.isJsonReader()) {
+			creator.addImport("android.util.JsonReader");
+			creator.addImport("android.util.JsonToken");
+			creator.addImport("java.io.IOException");
+		}
+		
+		if (creators != null)
+			creators.put(className, creator);
+		
+		return creator;
+	}
+}
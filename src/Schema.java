@@ -0,0 +1,136 @@
+import java.util.Collection;
+import java.util.LinkedHashMap;
+
+/**
+ * Merged statistics of every field observed in a set of JSON records,
+ * fields are kept in order of first appearance.
+ * 
+ * @author Lucas De Morais Cabrales
+ * @since 2026-10-17
+ */
+public class Schema {
+	/**
+	 * Field statistics by JSON field name.
+	 */
+	private LinkedHashMap<String, FieldSchema> fields = new LinkedHashMap<>();
+	/**
+	 * Amount of records observed.
+	 */
+	private long records;
+	/**
+	 * Whether any of the records was an element of a top level array.
+	 */
+	private boolean isArray;
+	
+	/**
+	 * Retrieves the statistics of a field, creating them on its first appearance.
+	 * 
+	 * @param name JSON field name.
+	 * @return Field statistics.
+	 */
+	public FieldSchema getField(String name) {
+		FieldSchema field = fields.get(name);
+		
+		if (field == null) {
+			field = new FieldSchema(name);
+			fields.put(name, field);
+		}
+		
+		return field;
+	}
+	
+	/**
+	 * Records the start of a new record.
+	 */
+	public void addRecord() {
+		records++;
+	}
+	
+	/**
+	 * Adds the statistics of records observed after the ones of this schema,
+	 * new fields are appended so the order of first appearance is kept.
+	 * 
+	 * @param other schema of the following records.
+	 */
+	public void merge(Schema other) {
+		records += other.records;
+		isArray |= other.isArray;
+		
+		for (FieldSchema field : other.fields.values()) {
+			getField(field.getName()).merge(field);
+		}
+	}
+	
+	/**
+	 * Retrieves every field in order of first appearance.
+	 * 
+	 * @return Field statistics.
+	 */
+	public Collection<FieldSchema> getFields() {
+		return fields.values();
+	}
+	
+	/**
+	 * Retrieves a canonical description of everything the generated classes depend on: the order, 
+	 * name, type and nullability of every field, recursively for nested objects. Two schemas with
+	 * the same signature generate the same classes, no matter how many records they observed. The 
+	 * distinct values of a string are only part of it when the string is generated as an enum.
+	 * 
+	 * @param enumValues maximum amount of distinct values of an enum, 0 when there are no enums.
+	 * @param idFieldName JSON field name of the entity ID, empty if none.
+	 * @param filterFieldName JSON field name of the getObj() filter, empty if none.
+	 * @return Signature in plain text.
+	 */
+	public String getSignature(int enumValues, String idFieldName, String filterFieldName) {
+		StringBuilder signature = new StringBuilder();
+		appendSignature(signature, enumValues, idFieldName, filterFieldName);
+		return signature.toString();
+	}
+	
+	/**
+	 * Appends the signature of the schema and of its nested objects.
+	 * 
+	 * @param signature signature being built.
+	 * @param enumValues maximum amount of distinct values of an enum, 0 when there are no enums.
+	 * @param idFieldName JSON field name of the entity ID, never an enum.
+	 * @param filterFieldName JSON field name of the getObj() filter, never an enum.
+	 */
+	private void appendSignature(StringBuilder signature, int enumValues, String idFieldName, String filterFieldName) {
+		signature.append(isArray ? "[" : "{");
+		
+		for (FieldSchema field : fields.values()) {
+			ValueType type = field.getValueType();
+			signature.append(field.getName()).append(':').append(type.name())
+				.append(field.isNullable() || field.isOptional(records) ? "?" : "");
+			
+			//the values of a string generated as an enum become its constants, same conditions as JSONParser.
+			if (enumValues > 0 && type == ValueType.STRING && !field.getName().equals(idFieldName)
+					&& !field.getName().equals(filterFieldName) && field.isLowCardinality(enumValues))
+				signature.append('=').append(String.join("|", field.getDistinctValues()));
+			
+			//the id and the filter only apply to the root class.
+			if (type == ValueType.OBJECT)
+				field.getChildren().appendSignature(signature, enumValues, "", "");
+			else if (type == ValueType.ARRAY && field.isObjectArray())
+				field.getElements().appendSignature(signature, enumValues, "", "");
+			else if (type == ValueType.ARRAY)
+				signature.append('<').append(field.getElementType().name()).append('>');
+			
+			signature.append(',');
+		}
+		
+		signature.append(isArray ? "]" : "}");
+	}
+	
+	public long getRecords() {
+		return records;
+	}
+	
+	public boolean isArray() {
+		return isArray;
+	}
+	
+	public void setArray(boolean isArray) {
+		this.isArray = isArray;
+	}
+}
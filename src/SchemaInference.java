@@ -0,0 +1,316 @@
+import java.io.IOException;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * Infers the schema of a stream of JSON records (a single object, an array of objects or NDJSON, 
+ * one value after another),
+ * the records are tokenized one at a time so the input is never loaded into memory.
+ * 
+ * @author Lucas De Morais Cabrales
+ * @since 2026-10-17
+ */
+public class SchemaInference {
+	
+	/**
+	 * Smallest chunk of a file inferred by a single task.
+	 */
+	private static final long MIN_CHUNK_SIZE = 1 << 20;
+	
+	/**
+	 * Infers the schema of every record of the input.
+	 * 
+	 * @param reader Input containing the JSON records.
+	 * @return Merged schema of every record.
+	 * @throws IOException if the input can not be read or a record is not a valid JSON object.
+	 */
+	public static Schema infer(Reader reader) throws IOException {
+		return infer(new JSONTokenizer(reader));
+	}
+	
+	/**
+	 * Infers the schema of every record of a file, the file is memory-mapped and its 
+	 * UTF-8 bytes are tokenized directly.
+	 * 
+	 * @param path File containing the JSON records.
+	 * @return Merged schema of every record.
+	 * @throws IOException if the file can not be read or a record is not a valid JSON object.
+	 */
+	public static Schema infer(Path path) throws IOException {
+		try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+			return infer(new MappedFileTokenizer(channel, 0, channel.size()));
+		}
+	}
+	
+	/**
+	 * Infers the schema of every record read by the tokenizer.
+	 * 
+	 * @param tokenizer tokenizer of the input.
+	 * @return Merged schema of every record.
+	 * @throws IOException if the input can not be read or a record is not a valid JSON object.
+	 */
+	public static Schema infer(JSONTokenizer tokenizer) throws IOException {
+		Schema schema = new Schema();
+		
+		while (readDocument(tokenizer, schema));
+		
+		Metrics.add(Metrics.Counter.TOKENS, tokenizer.getTokenCount());
+		Metrics.add(Metrics.Counter.INPUT_CHARS, tokenizer.getPosition());
+		return schema;
+	}
+	
+	/**
+	 * <p>
+	 * Infers the schema of a NDJSON file (one record per line) using every core available.
+	 * </p>
+	 * <p>
+	 * The file is split in chunks on line boundaries, each chunk is inferred on a ForkJoinPool
+	 * through its own memory-mapped windows and the partial schemas are merged from left to right,
+	 * so the result is exactly the same as {@link #infer(Reader)}, including the order of the fields.
+	 * Files formatted across lines (e.g. a pretty printed array) are inferred sequentially.
+	 * </p>
+	 * 
+	 * @param path NDJSON file.
+	 * @param parallelism amount of threads to use.
+	 * @return Merged schema of every record.
+	 * @throws IOException if the file can not be read or a record is not a valid JSON object.
+	 */
+	public static Schema inferParallel(Path path, int parallelism) throws IOException {
+		if (parallelism <= 1)
+			return infer(path);
+		
+		try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+			long size = channel.size();
+			
+			if (size <= MIN_CHUNK_SIZE || !isLineDelimited(channel))
+				return infer(new MappedFileTokenizer(channel, 0, size));
+			
+			long chunkSize = Math.max(MIN_CHUNK_SIZE, size / (parallelism * 8L));
+			ForkJoinPool pool = new ForkJoinPool(parallelism);
+			
+			try {
+				return pool.invoke(new InferenceTask(channel, 0, size, chunkSize));
+			} catch (UncheckedIOException e) {
+				throw e.getCause();
+			} finally {
+				pool.shutdown();
+			}
+		}
+	}
+	
+	/**
+	 * Reads the next top level value of the input and merges it into the schema, it can be
+	 * a single record (object) or an array of records, in which case every element is merged.
+	 * 
+	 * @param tokenizer tokenizer of the input.
+	 * @param schema schema to merge the records into.
+	 * @return false if there are no values left.
+	 * @throws IOException if the input can not be read or the value is not a valid JSON object or array of objects.
+	 */
+	public static boolean readDocument(JSONTokenizer tokenizer, Schema schema) throws IOException {
+		Metrics.Sample sample = Metrics.start(Metrics.Stage.INFERENCE);
+		JSONToken token = tokenizer.nextToken();
+		
+		if (token == JSONToken.END_DOCUMENT)
+			return false;
+		
+		if (token == JSONToken.BEGIN_ARRAY) {
+			schema.setArray(true);
+			
+			while ((token = tokenizer.nextToken()) == JSONToken.BEGIN_OBJECT) {
+				readObject(tokenizer, schema);
+			}
+			
+			if (token != JSONToken.END_ARRAY)
+				throw new IOException("Expected a JSON object at position " + tokenizer.getPosition());
+		} else if (token == JSONToken.BEGIN_OBJECT) {
+			readObject(tokenizer, schema);
+		} else
+			throw new IOException("Expected a JSON object or array at position " + tokenizer.getPosition());
+		
+		Metrics.stop(sample);
+		return true;
+	}
+	
+	/**
+	 * Reads a record and merges it into the schema, its BEGIN_OBJECT token has already been read.
+	 * 
+	 * @param tokenizer tokenizer of the input.
+	 * @param schema schema to merge the record into.
+	 * @throws IOException if the input can not be read or the record is not a valid JSON object.
+	 */
+	private static void readObject(JSONTokenizer tokenizer, Schema schema) throws IOException {
+		schema.addRecord();
+		JSONToken token = tokenizer.nextToken();
+		
+		while (token == JSONToken.FIELD_NAME) {
+			FieldSchema field = schema.getField(tokenizer.getFieldName());
+			JSONToken value = tokenizer.nextToken();
+			
+			if (value == JSONToken.BEGIN_OBJECT)
+				readObject(tokenizer, field.getChildren());
+			else if (value == JSONToken.BEGIN_ARRAY)
+				readArray(tokenizer, field);
+			else if (value == JSONToken.STRING && field.isTrackingValues())
+				field.observeValue(tokenizer.getCanonicalText()); //distinct values of low-cardinality strings.
+			
+			field.observe(value, value == JSONToken.INTEGER && !tokenizer.fitsInInt());
+			token = tokenizer.nextToken();
+		}
+		
+		if (token != JSONToken.END_OBJECT)
+			throw new IOException("Expected a field name at position " + tokenizer.getPosition());
+	}
+	
+	/**
+	 * Reads the elements of an array field, its BEGIN_ARRAY token has already been read.
+	 * Objects are merged into the element schema, any other value into the element statistics.
+	 * 
+	 * @param tokenizer tokenizer of the input.
+	 * @param field statistics of the array field.
+	 * @throws IOException if the input can not be read or the array is not valid JSON.
+	 */
+	private static void readArray(JSONTokenizer tokenizer, FieldSchema field) throws IOException {
+		JSONToken token;
+		
+		while ((token = tokenizer.nextToken()) != JSONToken.END_ARRAY) {
+			if (token == JSONToken.BEGIN_OBJECT) {
+				readObject(tokenizer, field.getElements());
+				continue;
+			}
+			
+			if (token == JSONToken.BEGIN_ARRAY)
+				tokenizer.skipChildren(); //nested arrays are kept as text.
+			else if (!token.isScalar())
+				throw new IOException("Expected a JSON value at position " + tokenizer.getPosition());
+			
+			field.getElementValues().observe(token, token == JSONToken.INTEGER && !tokenizer.fitsInInt());
+		}
+	}
+	
+	/**
+	 * Checks whether the first line of a file is a complete JSON value, otherwise the file is
+	 * formatted across lines and it can't be split on line boundaries.
+	 * 
+	 * @param channel file to check.
+	 * @return true if the file looks like NDJSON.
+	 * @throws IOException if the file can not be read.
+	 */
+	private static boolean isLineDelimited(FileChannel channel) throws IOException {
+		ByteBuffer buffer = ByteBuffer.allocate(8192);
+		long offset = 0;
+		long lineEnd = -1;
+		
+		//finds the end of the first line.
+		while (lineEnd < 0) {
+			buffer.clear();
+			int read = channel.read(buffer, offset);
+			
+			if (read < 0)
+				return false;
+			
+			for (int i = 0; i < read && lineEnd < 0; i++) {
+				if (buffer.get(i) == '\n')
+					lineEnd = offset + i;
+			}
+			
+			offset += read;
+		}
+		
+		try {
+			MappedFileTokenizer tokenizer = new MappedFileTokenizer(channel, 0, lineEnd);
+			return readDocument(tokenizer, new Schema()) && tokenizer.getDepth() == 0;
+		} catch (IOException e) {
+			return false;
+		}
+	}
+	
+	/**
+	 * Infers the schema of a range of a NDJSON file, splitting it in halves until it is small enough.
+	 */
+	private static class InferenceTask extends RecursiveTask<Schema> {
+		
+		private static final long serialVersionUID = 1L;
+		
+		/**
+		 * NDJSON file, only read with absolute positions so it can be shared between tasks.
+		 */
+		private final FileChannel channel;
+		/**
+		 * First byte of the range, always the start of a line.
+		 */
+		private final long start;
+		/**
+		 * End of the range (exclusive), always the start of a line or the end of the file.
+		 */
+		private final long end;
+		/**
+		 * Size of the ranges inferred without splitting.
+		 */
+		private final long chunkSize;
+		
+		InferenceTask(FileChannel channel, long start, long end, long chunkSize) {
+			this.channel = channel;
+			this.start = start;
+			this.end = end;
+			this.chunkSize = chunkSize;
+		}
+		
+		@Override
+		protected Schema compute() {
+			try {
+				long split = end - start > chunkSize ? nextLine(start + (end - start) / 2) : end;
+				
+				if (split >= end) {
+					return infer(new MappedFileTokenizer(channel, start, end));
+				}
+				
+				InferenceTask left = new InferenceTask(channel, start, split, chunkSize);
+				InferenceTask right = new InferenceTask(channel, split, end, chunkSize);
+				left.fork();
+				Schema rightSchema = right.compute();
+				Schema schema = left.join();
+				
+				schema.merge(rightSchema);
+				return schema;
+			} catch (IOException e) {
+				throw new UncheckedIOException(e);
+			}
+		}
+		
+		/**
+		 * Finds the start of the first line beginning at or after a position.
+		 * 
+		 * @param position position inside of the range.
+		 * @return Start of the line, or the end of the range if there are no more lines.
+		 * @throws IOException if the file can not be read.
+		 */
+		private long nextLine(long position) throws IOException {
+			ByteBuffer buffer = ByteBuffer.allocate(8192);
+			long offset = position - 1; //a line may start right at the position.
+			
+			while (offset < end) {
+				buffer.clear();
+				int read = channel.read(buffer, offset);
+				
+				if (read < 0)
+					break;
+				
+				for (int i = 0; i < read && offset + i < end; i++) {
+					if (buffer.get(i) == '\n')
+						return offset + i + 1;
+				}
+				
+				offset += read;
+			}
+			
+			return end;
+		}
+	}
+}
@@ -5,18 +5,46 @@
  * @since 2018-01-18
  */
 public enum ValueType {
-	STRING("String"),
-	INTEGER("Integer"),
-	BOOLEAN("Boolean"),
-	DOUBLE("Double");
+	STRING("String", "String"),
+	INTEGER("Integer", "int"),
+	LONG("Long", "long"),
+	BOOLEAN("Boolean", "boolean"),
+	DOUBLE("Double", "double"),
+	OBJECT("Object", "Object"),
+	ARRAY("ArrayList", "ArrayList"),
+	ENUM("Enum", "Enum");
 	
 	String name;
+	String primitiveName;
 	
-	ValueType(String name) {
+	ValueType(String name, String primitiveName) {
 		this.name = name;
+		this.primitiveName = primitiveName;
 	}
 	
 	public String getName() {
 		return name;
 	}
+	
+	public String getPrimitiveName() {
+		return primitiveName;
+	}
+	
+	/**
+	 * Whether the type has a primitive variant (int, long, double, boolean).
+	 * 
+	 * @return true if the primitive name is different from the boxed one.
+	 */
+	public boolean hasPrimitive() {
+		return !name.equals(primitiveName);
+	}
+	
+	/**
+	 * Whether the type is a nested object or an array, instead of a single value.
+	 * 
+	 * @return true for OBJECT and ARRAY.
+	 */
+	public boolean isContainer() {
+		return this == OBJECT || this == ARRAY;
+	}
 }
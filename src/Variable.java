@@ -1,3 +1,5 @@
+import java.util.List;
+
 /**
  * POJO for the generated class variables.
  * 
@@ -17,6 +19,42 @@ public class Variable {
 	 * Java database name (snake_case).
 	 */
 	private String dbName;
+	/**
+	 * JSON field name.
+	 */
+	private String jsonName;
+	/**
+	 * Whether the JSON field was null or missing in any sample.
+	 */
+	private boolean isNullable;
+	/**
+	 * Whether the variable uses a primitive type instead of the boxed one.
+	 */
+	private boolean isPrimitive;
+	/**
+	 * Bit of the presence bitset that tracks whether the primitive variable has a value, -1 if it isn't tracked.
+	 */
+	private int presenceBit = -1;
+	/**
+	 * Name of the generated class of a nested object, or of the elements of an array of objects.
+	 */
+	private String childClassName;
+	/**
+	 * Merged schema of the nested object, or of the elements of an array of objects.
+	 */
+	private Schema childSchema;
+	/**
+	 * Type of the elements of an array that doesn't contain objects.
+	 */
+	private ValueType elementType;
+	/**
+	 * Name of the generated enum of a low-cardinality string.
+	 */
+	private String enumName;
+	/**
+	 * Values of the generated enum, in the order of its constants.
+	 */
+	private List<String> enumValues;
 	
 	/**
 	 * Constructor of the Variable class.
@@ -29,6 +67,86 @@ public class Variable {
 		this.name = name;
 	}
 	
+	/**
+	 * Retrieves the Java type of the variable, primitive or boxed.
+	 * 
+	 * @return Java type in plain text.
+	 */
+	public String getTypeName() {
+		if (type == ValueType.OBJECT)
+			return childClassName;
+		if (type == ValueType.ENUM)
+			return enumName;
+		if (type == ValueType.ARRAY)
+			return "ArrayList<" + (isChildArray() ? childClassName : elementType.getName()) + ">";
+		
+		return isPrimitive ? type.getPrimitiveName() : type.getName();
+	}
+	
+	/**
+	 * Whether the variable is a nested object or an array of objects, generated as a child class.
+	 * 
+	 * @return true if the variable has a child class.
+	 */
+	public boolean hasChildClass() {
+		return childClassName != null;
+	}
+	
+	/**
+	 * Whether the variable is an array of objects, generated as a list of a child class.
+	 * 
+	 * @return true if the variable is an array of a child class.
+	 */
+	public boolean isChildArray() {
+		return type == ValueType.ARRAY && childClassName != null;
+	}
+	
+	/**
+	 * Whether the variable is primitive and its presence is tracked by the presence bitset.
+	 * 
+	 * @return true if the variable has a presence bit.
+	 */
+	public boolean hasPresenceBit() {
+		return presenceBit >= 0;
+	}
+	
+	/**
+	 * Retrieves the name of the presence bitset field, one long for every 64 variables.
+	 * 
+	 * @return Presence field name.
+	 */
+	public String getPresenceField() {
+		return "presence" + (presenceBit >> 6);
+	}
+	
+	/**
+	 * Retrieves the name of the accessors of the JSON value of an enum variable, which is what gets stored: 
+	 * get&lt;Name&gt;Value() and set&lt;Name&gt;Value(String).
+	 * 
+	 * @return Accessor name without its get/set prefix, e.g. StatusValue
+	 */
+	public String getEnumValueAccessor() {
+		return JSONParser.getPascalCase(name) + "Value";
+	}
+	
+	/**
+	 * Retrieves the name of the field keeping the JSON value of an enum variable when it wasn't in the samples.
+	 * 
+	 * @return Field name, e.g. statusUnknown
+	 */
+	public String getEnumUnknownField() {
+		return name + "Unknown";
+	}
+	
+	/**
+	 * Retrieves the mask of the presence bit in plain text.
+	 * 
+	 * @return Presence mask, e.g. (1L << 3)
+	 */
+	public String getPresenceMask() {
+		return "(1L << " + (presenceBit & 63) + ")";
+	}
+	
 	public ValueType getType() {
 		return type;
 	}
@@ -52,4 +170,76 @@ public class Variable {
 	public void setDBName(String dbName) {
 		this.dbName = dbName;
 	}
+	
+	public String getJsonName() {
+		return jsonName;
+	}
+	
+	public void setJsonName(String jsonName) {
+		this.jsonName = jsonName;
+	}
+	
+	public boolean isNullable() {
+		return isNullable;
+	}
+	
+	public void setNullable(boolean isNullable) {
+		this.isNullable = isNullable;
+	}
+	
+	public boolean isPrimitive() {
+		return isPrimitive;
+	}
+	
+	public void setPrimitive(boolean isPrimitive) {
+		this.isPrimitive = isPrimitive;
+	}
+	
+	public String getChildClassName() {
+		return childClassName;
+	}
+	
+	public void setChildClassName(String childClassName) {
+		this.childClassName = childClassName;
+	}
+	
+	public Schema getChildSchema() {
+		return childSchema;
+	}
+	
+	public void setChildSchema(Schema childSchema) {
+		this.childSchema = childSchema;
+	}
+	
+	public ValueType getElementType() {
+		return elementType;
+	}
+	
+	public void setElementType(ValueType elementType) {
+		this.elementType = elementType;
+	}
+	
+	public String getEnumName() {
+		return enumName;
+	}
+	
+	public void setEnumName(String enumName) {
+		this.enumName = enumName;
+	}
+	
+	public List<String> getEnumValues() {
+		return enumValues;
+	}
+	
+	public void setEnumValues(List<String> enumValues) {
+		this.enumValues = enumValues;
+	}
+	
+	public int getPresenceBit() {
+		return presenceBit;
+	}
+	
+	public void setPresenceBit(int presenceBit) {
+		this.presenceBit = presenceBit;
+	}
 }
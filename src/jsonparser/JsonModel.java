@@ -0,0 +1,100 @@
+package jsonparser;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * <p>
+ * Generates a model class from a sample JSON file during the compilation, with the same options as
+ * the interactive program. The annotated class is only a stub: the model is generated next to it,
+ * in the same package, by the JsonModelProcessor annotation processor.
+ * </p>
+ * <p>
+ * E.g.: <code>@JsonModel(sample = "samples/user.json", database = true, master = true, id = "UserId")
+ * class UserSpec {}</code> generates the class <code>User</code>.
+ * </p>
+ * <p>
+ * The generated code calls the <code>Debug</code> and <code>StorageManager</code> helpers of the app
+ * unqualified. Unless they are in the package of the stub, set their fully qualified names with
+ * {@link #debug()} and {@link #storageManager()}, or for every stub with the <code>jsonparser.debug</code>
+ * and <code>jsonparser.storageManager</code> processor options, so that they are imported.
+ * </p>
+ * 
+ * @author Lucas De Morais Cabrales
+ * @since 2026-10-17
+ */
+@Documented
+@Retention(RetentionPolicy.SOURCE)
+@Target(ElementType.TYPE)
+public @interface JsonModel {
+	
+	/**
+	 * Sample file containing the JSON records (a single object, an array of objects or NDJSON).
+	 * Relative paths are resolved against the <code>jsonparser.samples</code> processor option,
+	 * or against the working directory of the compiler if it isn't set.
+	 * 
+	 * @return Path of the sample.
+	 */
+	String sample();
+	
+	/**
+	 * Name of the generated class, by default the name of the stub without its "Spec" suffix.
+	 * 
+	 * @return Name of the Java class.
+	 */
+	String name() default "";
+	
+	/**
+	 * Whether the database methods are generated.
+	 * 
+	 * @return true to generate the database methods.
+	 */
+	boolean database() default false;
+	
+	/**
+	 * Whether the class is a master table.
+	 * 
+	 * @return true for a master table.
+	 */
+	boolean master() default false;
+	
+	/**
+	 * JSON field of the entity ID.
+	 * 
+	 * @return Name of the JSON field, empty for none.
+	 */
+	String id() default "";
+	
+	/**
+	 * JSON field of the name filter.
+	 * 
+	 * @return Name of the JSON field, empty for none.
+	 */
+	String filter() default "";
+	
+	/**
+	 * Any other option in text form, e.g. <code>{ "jsonreader", "cache=500" }</code>.
+	 * 
+	 * @return Generation options.
+	 */
+	String[] options() default {};
+	
+	/**
+	 * Fully qualified name of the Debug helper, e.g. <code>com.example.util.Debug</code>. Overrides the
+	 * <code>jsonparser.debug</code> processor option.
+	 * 
+	 * @return Name of the class, empty to use the processor option or the package of the stub.
+	 */
+	String debug() default "";
+	
+	/**
+	 * Fully qualified name of the StorageManager helper, only used with the database methods. Overrides
+	 * the <code>jsonparser.storageManager</code> processor option.
+	 * 
+	 * @return Name of the class, empty to use the processor option or the package of the stub.
+	 */
+	String storageManager() default "";
+}